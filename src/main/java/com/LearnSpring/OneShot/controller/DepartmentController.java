@@ -2,6 +2,8 @@ package com.LearnSpring.OneShot.controller;
 
 import com.LearnSpring.OneShot.entity.Department; // Importing the Department entity
 import com.LearnSpring.OneShot.error.DepartmentNotFoundException;
+import com.LearnSpring.OneShot.error.InvalidDepartmentFieldException;
+import com.LearnSpring.OneShot.error.TooManyDepartmentIdsException;
 import com.LearnSpring.OneShot.service.IDepartmentService; // Importing the Department service interface
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
@@ -10,6 +12,7 @@ import org.springframework.beans.factory.annotation.Autowired; // For dependency
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * This is the controller class for managing department-related operations.
@@ -60,6 +63,52 @@ public class DepartmentController {
         return departmentService.fetchAllDepartmentList();
     }
 
+    /**
+     * HTTP GET endpoint to fetch several departments by their IDs, e.g. /departments?ids=1,2,3.
+     * This method retrieves the departments from the service layer with a single query.
+     *
+     * @param ids The comma-separated IDs of the departments to be retrieved.
+     * @return A list of the department objects that were found.
+     */
+    @GetMapping(value = "/departments", params = {"ids", "!fields"})
+    public List<Department> fetchDepartmentListByIds(@RequestParam("ids") List<Long> ids) throws TooManyDepartmentIdsException {
+        LOGGER.info("Inside fetchDepartmentListByIds of DepartmentController");
+        // Calling the service layer to retrieve the departments and returning the list
+        return departmentService.fetchDepartmentListByIds(ids);
+    }
+
+    /**
+     * HTTP GET endpoint to fetch selected fields of departments, e.g. /departments?fields=departmentId,departmentName.
+     * Only the requested columns are read from the database and serialized.
+     *
+     * @param fields The comma-separated names of the fields to be retrieved.
+     * @param ids The optional comma-separated IDs of the departments to be retrieved.
+     * @return A list with one object per department containing only the requested fields.
+     */
+    @GetMapping(value = "/departments", params = "fields")
+    public List<Map<String, Object>> fetchDepartmentFieldList(@RequestParam("fields") String fields,
+                                                              @RequestParam(value = "ids", required = false) List<Long> ids)
+            throws InvalidDepartmentFieldException, TooManyDepartmentIdsException {
+        LOGGER.info("Inside fetchDepartmentFieldList of DepartmentController");
+        // Calling the service layer to retrieve the selected fields and returning the list
+        return departmentService.fetchDepartmentFieldList(fields, ids);
+    }
+
+    /**
+     * HTTP GET endpoint to fetch selected fields of a department by its ID, e.g. /departments/1?fields=departmentName.
+     * Only the requested columns are read from the database and serialized.
+     *
+     * @param id The ID of the department to be retrieved.
+     * @param fields The comma-separated names of the fields to be retrieved.
+     * @return An object containing only the requested fields of the department.
+     */
+    @GetMapping(value = "/departments/{id}", params = "fields")
+    public Map<String, Object> findDepartmentFieldsById(@PathVariable("id") Long id, @RequestParam("fields") String fields)
+            throws DepartmentNotFoundException, InvalidDepartmentFieldException {
+        // Calling the service layer to retrieve the selected fields of the department and returning them
+        return departmentService.findDepartmentFieldsById(id, fields);
+    }
+
     /**
      * HTTP GET endpoint to fetch a department by its ID.
      * This method retrieves a department object with the specified ID from the service layer.
@@ -0,0 +1,92 @@
+package com.LearnSpring.OneShot.controller;
+
+import com.LearnSpring.OneShot.entity.DepartmentImportJob; // Importing the DepartmentImportJob entity
+import com.LearnSpring.OneShot.error.DepartmentImportJobNotFoundException;
+import com.LearnSpring.OneShot.error.InvalidDepartmentImportException;
+import com.LearnSpring.OneShot.service.IDepartmentImportService; // Importing the Department import service interface
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired; // For dependency injection
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * This is the controller class for bulk department imports.
+ * It starts background import jobs and reports their progress.
+ */
+@RestController
+public class DepartmentImportController {
+
+    // Service layer dependency to handle department imports
+    private IDepartmentImportService departmentImportService;
+    private final Logger LOGGER = LoggerFactory.getLogger(DepartmentImportController.class);
+
+    /**
+     * Constructor-based dependency injection of the department import service.
+     *
+     * @param departmentImportService The service interface for department import operations.
+     */
+    @Autowired
+    public DepartmentImportController(IDepartmentImportService departmentImportService) {
+        this.departmentImportService = departmentImportService;
+    }
+
+    /**
+     * HTTP POST endpoint to import departments from a file on the server, e.g. /departments/imports?path=departments.csv.
+     * The import runs in the background; the returned job can be polled for progress.
+     *
+     * @param path The path of the file, relative to the configured import directory.
+     * @param format The optional file format (CSV or NDJSON); detected from the file extension when missing.
+     * @return The queued import job.
+     */
+    @PostMapping(value = "/departments/imports", params = "path")
+    public DepartmentImportJob submitImport(@RequestParam("path") String path,
+                                            @RequestParam(value = "format", required = false) String format) throws InvalidDepartmentImportException {
+        LOGGER.info("Inside submitImport of DepartmentImportController");
+        // Calling the service layer to start the import job and returning it
+        return departmentImportService.submitImport(path, format);
+    }
+
+    /**
+     * HTTP POST endpoint to import departments from an uploaded file.
+     * The import runs in the background; the returned job can be polled for progress.
+     *
+     * @param file The uploaded CSV or NDJSON file.
+     * @param format The optional file format (CSV or NDJSON); detected from the file name when missing.
+     * @return The queued import job.
+     */
+    @PostMapping(value = "/departments/imports", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public DepartmentImportJob uploadImport(@RequestParam("file") MultipartFile file,
+                                            @RequestParam(value = "format", required = false) String format) throws InvalidDepartmentImportException {
+        LOGGER.info("Inside uploadImport of DepartmentImportController");
+        // Calling the service layer to store the upload and start the import job
+        return departmentImportService.submitImport(file, format);
+    }
+
+    /**
+     * HTTP POST endpoint to resume a failed import job from its last checkpoint.
+     *
+     * @param jobId The ID of the failed import job.
+     * @return The queued import job.
+     */
+    @PostMapping("/departments/imports/{jobId}/resume")
+    public DepartmentImportJob resumeImport(@PathVariable("jobId") Long jobId)
+            throws DepartmentImportJobNotFoundException, InvalidDepartmentImportException {
+        LOGGER.info("Inside resumeImport of DepartmentImportController");
+        // Calling the service layer to requeue the job and returning it
+        return departmentImportService.resumeImport(jobId);
+    }
+
+    /**
+     * HTTP GET endpoint to fetch an import job and its progress.
+     *
+     * @param jobId The ID of the import job to be retrieved.
+     * @return The import job with its byte offset, row counts and throughput.
+     */
+    @GetMapping("/departments/imports/{jobId}")
+    public DepartmentImportJob fetchImportJobById(@PathVariable("jobId") Long jobId) throws DepartmentImportJobNotFoundException {
+        // Calling the service layer to retrieve the import job and returning it
+        return departmentImportService.fetchImportJobById(jobId);
+    }
+}
@@ -6,6 +6,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -22,7 +23,12 @@ public class Department {
     private Long departmentId;
 
     @NotBlank(message = "Please Add Department Name")
+    @Size(max = 255, message = "Department Name Must Be At Most 255 Characters")
     private String departmentName;
+
+    @Size(max = 255, message = "Department Address Must Be At Most 255 Characters")
     private String departmentAddress;
+
+    @Size(max = 255, message = "Department Code Must Be At Most 255 Characters")
     private String departmentCode;
 }
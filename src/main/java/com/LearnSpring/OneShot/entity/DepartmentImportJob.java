@@ -0,0 +1,61 @@
+package com.LearnSpring.OneShot.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder(toBuilder = true)
+@Entity
+public class DepartmentImportJob {
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private Long jobId;
+
+    // Absolute path on the server, never serialized into responses
+    @JsonIgnore
+    private String sourcePath;
+
+    // Whether the source file is an upload stored by the application, deleted once it is no longer needed
+    @JsonIgnore
+    private boolean uploaded;
+
+    @Enumerated(EnumType.STRING)
+    private Format format;
+
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    // Byte position in the source file up to which rows have been committed
+    private long byteOffset;
+    private long totalBytes;
+    private long rowsImported;
+    private long rowsRejected;
+    private double rowsPerSecond;
+
+    @Column(length = 1000)
+    private String errorMessage;
+
+    public enum Format {
+        CSV,
+        NDJSON
+    }
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
@@ -0,0 +1,23 @@
+package com.LearnSpring.OneShot.error;
+
+public class DepartmentImportJobNotFoundException extends Exception{
+    public DepartmentImportJobNotFoundException() {
+        super();
+    }
+
+    public DepartmentImportJobNotFoundException(String message) {
+        super(message);
+    }
+
+    public DepartmentImportJobNotFoundException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public DepartmentImportJobNotFoundException(Throwable cause) {
+        super(cause);
+    }
+
+    protected DepartmentImportJobNotFoundException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+}
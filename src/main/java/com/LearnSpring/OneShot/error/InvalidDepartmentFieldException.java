@@ -0,0 +1,23 @@
+package com.LearnSpring.OneShot.error;
+
+public class InvalidDepartmentFieldException extends Exception{
+    public InvalidDepartmentFieldException() {
+        super();
+    }
+
+    public InvalidDepartmentFieldException(String message) {
+        super(message);
+    }
+
+    public InvalidDepartmentFieldException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public InvalidDepartmentFieldException(Throwable cause) {
+        super(cause);
+    }
+
+    protected InvalidDepartmentFieldException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+}
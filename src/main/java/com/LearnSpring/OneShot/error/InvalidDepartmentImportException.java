@@ -0,0 +1,23 @@
+package com.LearnSpring.OneShot.error;
+
+public class InvalidDepartmentImportException extends Exception{
+    public InvalidDepartmentImportException() {
+        super();
+    }
+
+    public InvalidDepartmentImportException(String message) {
+        super(message);
+    }
+
+    public InvalidDepartmentImportException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public InvalidDepartmentImportException(Throwable cause) {
+        super(cause);
+    }
+
+    protected InvalidDepartmentImportException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+}
@@ -33,4 +33,72 @@ public class RestResponseEntityExceptionHandler extends ResponseEntityExceptionH
         // Returning the ResponseEntity with the error message and setting the HTTP status to 404 Not Found
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(message);
     }
+
+    /**
+     * Exception handler for InvalidDepartmentFieldException.
+     * This method catches the exception and returns an appropriate error message with HTTP 400 (Bad Request).
+     *
+     * @param exception  The thrown InvalidDepartmentFieldException instance
+     * @param webRequest The WebRequest object to access web request details
+     * @return A ResponseEntity containing the error message and the BAD_REQUEST HTTP status
+     */
+    @ExceptionHandler(InvalidDepartmentFieldException.class) // Specifies that this method handles InvalidDepartmentFieldException
+    public ResponseEntity<ErrorMessage> invalidDepartmentFieldException(InvalidDepartmentFieldException exception, WebRequest webRequest) {
+        // Creating an ErrorMessage object with the HTTP status and exception message
+        ErrorMessage message = new ErrorMessage(HttpStatus.BAD_REQUEST, exception.getMessage());
+
+        // Returning the ResponseEntity with the error message and setting the HTTP status to 400 Bad Request
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(message);
+    }
+
+    /**
+     * Exception handler for DepartmentImportJobNotFoundException.
+     * This method catches the exception and returns an appropriate error message with HTTP 404 (Not Found).
+     *
+     * @param exception  The thrown DepartmentImportJobNotFoundException instance
+     * @param webRequest The WebRequest object to access web request details
+     * @return A ResponseEntity containing the error message and the NOT_FOUND HTTP status
+     */
+    @ExceptionHandler(DepartmentImportJobNotFoundException.class) // Specifies that this method handles DepartmentImportJobNotFoundException
+    public ResponseEntity<ErrorMessage> departmentImportJobNotFoundException(DepartmentImportJobNotFoundException exception, WebRequest webRequest) {
+        // Creating an ErrorMessage object with the HTTP status and exception message
+        ErrorMessage message = new ErrorMessage(HttpStatus.NOT_FOUND, exception.getMessage());
+
+        // Returning the ResponseEntity with the error message and setting the HTTP status to 404 Not Found
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(message);
+    }
+
+    /**
+     * Exception handler for InvalidDepartmentImportException.
+     * This method catches the exception and returns an appropriate error message with HTTP 400 (Bad Request).
+     *
+     * @param exception  The thrown InvalidDepartmentImportException instance
+     * @param webRequest The WebRequest object to access web request details
+     * @return A ResponseEntity containing the error message and the BAD_REQUEST HTTP status
+     */
+    @ExceptionHandler(InvalidDepartmentImportException.class) // Specifies that this method handles InvalidDepartmentImportException
+    public ResponseEntity<ErrorMessage> invalidDepartmentImportException(InvalidDepartmentImportException exception, WebRequest webRequest) {
+        // Creating an ErrorMessage object with the HTTP status and exception message
+        ErrorMessage message = new ErrorMessage(HttpStatus.BAD_REQUEST, exception.getMessage());
+
+        // Returning the ResponseEntity with the error message and setting the HTTP status to 400 Bad Request
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(message);
+    }
+
+    /**
+     * Exception handler for TooManyDepartmentIdsException.
+     * This method catches the exception and returns an appropriate error message with HTTP 400 (Bad Request).
+     *
+     * @param exception  The thrown TooManyDepartmentIdsException instance
+     * @param webRequest The WebRequest object to access web request details
+     * @return A ResponseEntity containing the error message and the BAD_REQUEST HTTP status
+     */
+    @ExceptionHandler(TooManyDepartmentIdsException.class) // Specifies that this method handles TooManyDepartmentIdsException
+    public ResponseEntity<ErrorMessage> tooManyDepartmentIdsException(TooManyDepartmentIdsException exception, WebRequest webRequest) {
+        // Creating an ErrorMessage object with the HTTP status and exception message
+        ErrorMessage message = new ErrorMessage(HttpStatus.BAD_REQUEST, exception.getMessage());
+
+        // Returning the ResponseEntity with the error message and setting the HTTP status to 400 Bad Request
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(message);
+    }
 }
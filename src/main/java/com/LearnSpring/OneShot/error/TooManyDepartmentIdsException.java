@@ -0,0 +1,23 @@
+package com.LearnSpring.OneShot.error;
+
+public class TooManyDepartmentIdsException extends Exception{
+    public TooManyDepartmentIdsException() {
+        super();
+    }
+
+    public TooManyDepartmentIdsException(String message) {
+        super(message);
+    }
+
+    public TooManyDepartmentIdsException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public TooManyDepartmentIdsException(Throwable cause) {
+        super(cause);
+    }
+
+    protected TooManyDepartmentIdsException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+}
@@ -0,0 +1,28 @@
+package com.LearnSpring.OneShot.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Repository fragment for reading a subset of the Department columns.
+ * Mixed into IDepartmentRepository and implemented by IDepartmentFieldsRepositoryImpl.
+ */
+public interface IDepartmentFieldsRepository {
+
+    /**
+     * The Department attributes that can be requested through a sparse fieldset.
+     */
+    Set<String> SELECTABLE_FIELDS = Set.of("departmentId", "departmentName", "departmentAddress", "departmentCode");
+
+    /**
+     * Selects only the given columns of the departments.
+     * Each row is returned as a map from attribute name to value, in the order the fields were requested.
+     *
+     * @param fields The attribute names to be selected, each one of SELECTABLE_FIELDS.
+     * @param ids The IDs of the departments to be retrieved, or null to retrieve all departments.
+     * @return A list with one map per department found.
+     */
+    public List<Map<String, Object>> findDepartmentFields(List<String> fields, Collection<Long> ids);
+}
@@ -0,0 +1,64 @@
+package com.LearnSpring.OneShot.repository;
+
+import com.LearnSpring.OneShot.entity.Department; // Importing the Department entity
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Criteria API implementation of the IDepartmentFieldsRepository fragment.
+ * Builds a tuple query whose SELECT clause contains only the requested columns.
+ */
+public class IDepartmentFieldsRepositoryImpl implements IDepartmentFieldsRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Implements the findDepartmentFields method from IDepartmentFieldsRepository.
+     *
+     * @param fields The attribute names to be selected, each one of SELECTABLE_FIELDS.
+     * @param ids The IDs of the departments to be retrieved, or null to retrieve all departments.
+     * @return A list with one map per department found.
+     */
+    @Override
+    public List<Map<String, Object>> findDepartmentFields(List<String> fields, Collection<Long> ids) {
+        if (ids != null && ids.isEmpty()) {
+            // No IDs can match, and an empty IN () is not valid SQL on every database
+            return new ArrayList<>();
+        }
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<Department> department = query.from(Department.class);
+
+        // Select only the requested attributes, aliased by name so they can be read back from the tuple
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String field : fields) {
+            selections.add(department.get(field).alias(field));
+        }
+        query.multiselect(selections);
+        if (ids != null) {
+            query.where(department.get("departmentId").in(ids));
+        }
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Tuple tuple : entityManager.createQuery(query).getResultList()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (String field : fields) {
+                row.put(field, tuple.get(field));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,45 @@
+package com.LearnSpring.OneShot.repository;
+
+import com.LearnSpring.OneShot.entity.DepartmentImportJob; // Importing the DepartmentImportJob entity
+import org.springframework.data.jpa.repository.JpaRepository; // Importing the JpaRepository interface from Spring Data JPA
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository; // Importing the Repository annotation
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for DepartmentImportJob entity.
+ * Extends JpaRepository to provide CRUD operations for department import jobs and their checkpoints.
+ */
+@Repository
+public interface IDepartmentImportJobRepository extends JpaRepository<DepartmentImportJob, Long> {
+
+    /**
+     * Finds all import jobs in any of the given states.
+     * The method is automatically implemented by Spring Data JPA based on the method name convention.
+     *
+     * @param statuses The states of the jobs to be retrieved.
+     * @return A list of the import jobs in one of the given states.
+     */
+    public List<DepartmentImportJob> findByStatusIn(Collection<DepartmentImportJob.Status> statuses);
+
+    /**
+     * Moves a job from one state to another and clears its error message, but only if it is still in the expected state.
+     * The check and the update happen in one statement, so two callers cannot both claim the same job.
+     *
+     * @param jobId The ID of the import job to be updated.
+     * @param from The state the job is expected to be in.
+     * @param to The new state of the job.
+     * @return The number of jobs updated, 0 if the job was not in the expected state.
+     */
+    @Transactional
+    @Modifying
+    @Query("update DepartmentImportJob j set j.status = :to, j.errorMessage = null where j.jobId = :jobId and j.status = :from")
+    public int compareAndSetStatus(@Param("jobId") Long jobId,
+                                   @Param("from") DepartmentImportJob.Status from,
+                                   @Param("to") DepartmentImportJob.Status to);
+}
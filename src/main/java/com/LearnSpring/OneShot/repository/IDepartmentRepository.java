@@ -6,10 +6,11 @@ import org.springframework.stereotype.Repository; // Importing the Repository an
 
 /**
  * Repository interface for Department entity.
- * Extends JpaRepository to provide CRUD operations for the Department entity.
+ * Extends JpaRepository to provide CRUD operations for the Department entity,
+ * and IDepartmentFieldsRepository to read only selected columns.
  */
 @Repository
-public interface IDepartmentRepository extends JpaRepository<Department, Long> {
+public interface IDepartmentRepository extends JpaRepository<Department, Long>, IDepartmentFieldsRepository {
 
     /**
      * Finds a department by its name.
@@ -0,0 +1,200 @@
+package com.LearnSpring.OneShot.service;
+
+import com.LearnSpring.OneShot.entity.Department; // Importing the Department entity
+import com.LearnSpring.OneShot.repository.IDepartmentRepository; // Importing the Department repository interface
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired; // For dependency injection
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects individual department ID lookups into batched queries.
+ * Lookups arriving within the configured window, or until the batch size cap is reached,
+ * are resolved with a single findAllById call and the results are routed back to each caller.
+ */
+@Component
+public class DepartmentBatchLoader {
+
+    private final Logger LOGGER = LoggerFactory.getLogger(DepartmentBatchLoader.class);
+
+    // Repository dependency for interacting with the database
+    private final IDepartmentRepository departmentRepository;
+
+    // How long the first lookup of a batch waits for others to join it
+    private final long windowMillis;
+
+    // Number of pending IDs that triggers an immediate dispatch
+    private final int maxBatchSize;
+
+    // Single timer thread that closes batches once their window has elapsed
+    private final ScheduledExecutorService scheduler;
+
+    // Bounded pool running the batched queries, so a slow query does not hold up later windows
+    private final ExecutorService workers;
+
+    // Lookups waiting for the next dispatch, keyed by department ID (guarded by this)
+    private Map<Long, CompletableFuture<Optional<Department>>> pending = new LinkedHashMap<>();
+
+    // Whether a flush has already been scheduled for the current batch (guarded by this)
+    private boolean flushScheduled;
+
+    // Set on shutdown so late lookups bypass the stopped timer (guarded by this)
+    private boolean stopping;
+
+    /**
+     * Constructor-based dependency injection of the department repository and batching settings.
+     *
+     * @param departmentRepository The repository interface for department-related data operations.
+     * @param windowMillis The batching window in milliseconds; 0 disables batching.
+     * @param maxBatchSize The maximum number of IDs resolved by a single query.
+     * @param threads The number of batched queries that can run at the same time.
+     */
+    @Autowired
+    public DepartmentBatchLoader(IDepartmentRepository departmentRepository,
+                                 @Value("${department.batch.window-ms:2}") long windowMillis,
+                                 @Value("${department.batch.max-size:100}") int maxBatchSize,
+                                 @Value("${department.batch.threads:4}") int threads) {
+        this.departmentRepository = departmentRepository;
+        this.windowMillis = windowMillis;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "department-batch-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.workers = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "department-batch-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues a department lookup for the next batch.
+     *
+     * @param id The ID of the department to be retrieved.
+     * @return A future completed with the department, or an empty Optional if no department has that ID.
+     */
+    public CompletableFuture<Optional<Department>> load(Long id) {
+        if (windowMillis <= 0 || maxBatchSize == 1) {
+            // Batching disabled, look the department up directly
+            return CompletableFuture.completedFuture(departmentRepository.findById(id));
+        }
+
+        Map<Long, CompletableFuture<Optional<Department>>> batch = null;
+        CompletableFuture<Optional<Department>> future = null;
+        synchronized (this) {
+            if (!stopping) {
+                // Callers asking for the same ID share one future
+                future = pending.computeIfAbsent(id, key -> new CompletableFuture<>());
+                if (pending.size() >= maxBatchSize) {
+                    batch = drain();
+                } else if (!flushScheduled) {
+                    flushScheduled = true;
+                    scheduler.schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+        if (future == null) {
+            // The loader is shutting down and the timer is gone, look the department up directly
+            return CompletableFuture.completedFuture(departmentRepository.findById(id));
+        }
+        if (batch != null) {
+            // The batch is full, dispatch it on the caller's thread instead of waiting for the window
+            dispatch(batch);
+        }
+        return future;
+    }
+
+    /**
+     * Hands whatever is pending to the worker pool once the batching window has elapsed.
+     * The timer thread only closes batches and never runs a query itself.
+     */
+    private void flush() {
+        Map<Long, CompletableFuture<Optional<Department>>> batch;
+        synchronized (this) {
+            batch = drain();
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            workers.execute(() -> dispatch(batch));
+        } catch (RejectedExecutionException e) {
+            // The pool is shutting down, resolve the batch on this thread so no caller is left waiting
+            dispatch(batch);
+        }
+    }
+
+    /**
+     * Hands the pending lookups over to the caller and starts a new batch.
+     * Must be called while holding the lock.
+     */
+    private Map<Long, CompletableFuture<Optional<Department>>> drain() {
+        Map<Long, CompletableFuture<Optional<Department>>> batch = pending;
+        pending = new LinkedHashMap<>();
+        flushScheduled = false;
+        return batch;
+    }
+
+    /**
+     * Resolves a batch of lookups with one IN (...) query and completes every waiting future.
+     */
+    private void dispatch(Map<Long, CompletableFuture<Optional<Department>>> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            Map<Long, Department> found = new HashMap<>();
+            for (Department department : departmentRepository.findAllById(batch.keySet())) {
+                found.put(department.getDepartmentId(), department);
+            }
+            batch.forEach((id, future) -> future.complete(Optional.ofNullable(found.get(id))));
+        } catch (Throwable e) {
+            // Complete every waiting future, even on an Error, so no caller blocks forever
+            LOGGER.error("Batched department lookup of {} IDs failed", batch.size(), e);
+            batch.values().forEach(future -> future.completeExceptionally(e));
+            if (e instanceof Error error) {
+                throw error;
+            }
+        }
+    }
+
+    /**
+     * @return The maximum number of IDs resolved by a single query.
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Stops the timer and worker threads when the application context shuts down.
+     * Lookups made after this point bypass batching, and the pending batch is still resolved.
+     * Waits for running batches, so they finish before the EntityManagerFactory is closed.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        Map<Long, CompletableFuture<Optional<Department>>> batch;
+        synchronized (this) {
+            stopping = true;
+            batch = drain();
+        }
+        scheduler.shutdownNow();
+        workers.shutdown();
+        dispatch(batch);
+        workers.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,127 @@
+package com.LearnSpring.OneShot.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Reads UTF-8 lines from a file through a buffered FileChannel while tracking the exact byte offset,
+ * so an import can checkpoint its position and later resume reading from it.
+ * Every \n ends a line, including one inside a quoted CSV value; DepartmentImportServiceImpl joins
+ * such lines back into one record before parsing and checkpointing.
+ * Lines are capped in length, so a file without newlines cannot pull itself into memory.
+ */
+class DepartmentFileLineReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+    // Longest line accepted, in bytes
+    private final int maxLineLength;
+
+    // Bytes of the line being assembled, grown when a line spans several buffer reads
+    private byte[] line = new byte[256];
+    private int lineLength;
+
+    // Byte offset just after the last line returned
+    private long position;
+
+    // Byte offset the line being assembled starts at
+    private long lineStart;
+
+    /**
+     * Opens the file and positions the reader at the given byte offset.
+     *
+     * @param path The file to be read.
+     * @param offset The byte offset to start reading from; must be at the start of a line.
+     * @param maxLineLength The longest line accepted, in bytes.
+     */
+    DepartmentFileLineReader(Path path, long offset, int maxLineLength) throws IOException {
+        this.maxLineLength = maxLineLength;
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.channel.position(offset);
+        this.position = offset;
+        this.buffer.flip(); // Start with an empty buffer so the first read fills it
+    }
+
+    /**
+     * Reads the next line, without its line terminator.
+     *
+     * @return The next line, or null at the end of the file.
+     * @throws IOException If the file cannot be read or the line is longer than the cap.
+     */
+    String readLine() throws IOException {
+        lineStart = position;
+        lineLength = 0;
+        while (true) {
+            if (!buffer.hasRemaining()) {
+                buffer.clear();
+                int read = channel.read(buffer);
+                buffer.flip();
+                if (read < 0) {
+                    // The last line of the file may have no trailing newline
+                    return position == lineStart ? null : decode();
+                }
+            }
+            byte[] bytes = buffer.array();
+            int start = buffer.position();
+            int end = buffer.limit();
+            int newline = start;
+            while (newline < end && bytes[newline] != '\n') {
+                newline++;
+            }
+            append(bytes, start, newline - start);
+            if (newline < end) {
+                // Consume the newline as well, so the position points at the next line
+                buffer.position(newline + 1);
+                position += newline + 1 - start;
+                return decode();
+            }
+            buffer.position(end);
+            position += end - start;
+        }
+    }
+
+    /**
+     * @return The byte offset just after the last line returned by readLine.
+     */
+    long position() {
+        return position;
+    }
+
+    private void append(byte[] bytes, int offset, int length) throws IOException {
+        if (lineLength + length > maxLineLength) {
+            throw new IOException("Line Starting At Byte " + lineStart + " Is Longer Than " + maxLineLength + " Bytes");
+        }
+        if (lineLength + length > line.length) {
+            line = Arrays.copyOf(line, Math.max(line.length * 2, lineLength + length));
+        }
+        System.arraycopy(bytes, offset, line, lineLength, length);
+        lineLength += length;
+    }
+
+    private String decode() {
+        int length = lineLength;
+        if (length > 0 && line[length - 1] == '\r') {
+            length--;
+        }
+        int offset = 0;
+        if (lineStart == 0 && length >= 3 && (line[0] & 0xFF) == 0xEF && (line[1] & 0xFF) == 0xBB && (line[2] & 0xFF) == 0xBF) {
+            // Skip the UTF-8 byte order mark some tools write at the start of the file
+            offset = 3;
+        }
+        return new String(line, offset, length - offset, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,676 @@
+package com.LearnSpring.OneShot.service;
+
+import com.LearnSpring.OneShot.entity.Department; // Importing the Department entity
+import com.LearnSpring.OneShot.entity.DepartmentImportJob; // Importing the DepartmentImportJob entity
+import com.LearnSpring.OneShot.error.DepartmentImportJobNotFoundException;
+import com.LearnSpring.OneShot.error.InvalidDepartmentImportException;
+import com.LearnSpring.OneShot.repository.IDepartmentImportJobRepository;
+import com.LearnSpring.OneShot.repository.IDepartmentRepository; // Importing the Department repository interface
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired; // For dependency injection
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Service; // Marks this class as a service
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementation of the IDepartmentImportService interface.
+ * Streams CSV or NDJSON files line by line in background threads, validates each row against the
+ * Department constraints and saves the rows in chunks. Each chunk is committed together with the
+ * byte offset it ends at, so an interrupted import resumes from its last checkpoint.
+ * CSV values may span several lines when quoted; each record is checkpointed as a whole.
+ * Transient database errors are retried from the checkpoint, and a failed job can be resumed.
+ * Rows the database refuses are counted as rejected instead of failing the whole chunk.
+ * Stored uploads are deleted once the job completes or fails for a reason resuming cannot fix.
+ */
+@Service
+public class DepartmentImportServiceImpl implements IDepartmentImportService {
+
+    private final Logger LOGGER = LoggerFactory.getLogger(DepartmentImportServiceImpl.class);
+
+    // Repository dependencies for the imported departments and the job checkpoints
+    private IDepartmentRepository departmentRepository;
+    private IDepartmentImportJobRepository importJobRepository;
+
+    // Commits each chunk of departments and its checkpoint in one transaction
+    private TransactionTemplate transactionTemplate;
+
+    // Checks imported rows against the Department constraints
+    private Validator validator;
+
+    // Parses NDJSON rows
+    private ObjectMapper objectMapper;
+
+    // Directory that server-local imports are read from and uploads are stored in
+    private Path importDirectory;
+
+    // Number of rows committed per transaction
+    private int chunkSize;
+
+    // Longest line, or joined CSV record, accepted; a file without newlines cannot pull itself into memory
+    private int maxRecordLength;
+
+    // How often, and after how long, a job is retried after a transient database error
+    private int maxRetries;
+    private long retryDelayMillis;
+
+    // Background threads running the import jobs
+    private ExecutorService executor;
+
+    // IDs of the jobs queued or running in this process, so no job is ever run twice at the same time
+    private final Set<Long> activeJobs = ConcurrentHashMap.newKeySet();
+
+    // Set on shutdown so running jobs stop at their last checkpoint instead of failing
+    private volatile boolean stopping;
+
+    /**
+     * Constructor-based dependency injection of the repositories and import settings.
+     *
+     * @param departmentRepository The repository interface for department-related data operations.
+     * @param importJobRepository The repository interface for import job data operations.
+     * @param transactionManager The transaction manager used to commit each chunk.
+     * @param validator The validator for the Department constraints.
+     * @param objectMapper The mapper used to parse NDJSON rows.
+     * @param importDirectory The directory imports are read from and uploads are stored in.
+     * @param chunkSize The number of rows committed per transaction.
+     * @param threads The number of imports that can run at the same time.
+     * @param maxRetries The number of times a job is retried after a transient database error.
+     * @param retryDelayMillis The delay before the first retry, growing with each further retry.
+     * @param maxRecordLength The longest line, or CSV record spanning several lines, accepted.
+     */
+    @Autowired
+    public DepartmentImportServiceImpl(IDepartmentRepository departmentRepository,
+                                       IDepartmentImportJobRepository importJobRepository,
+                                       PlatformTransactionManager transactionManager,
+                                       Validator validator,
+                                       ObjectMapper objectMapper,
+                                       @Value("${department.import.directory:${java.io.tmpdir}/department-imports}") String importDirectory,
+                                       @Value("${department.import.chunk-size:1000}") int chunkSize,
+                                       @Value("${department.import.threads:1}") int threads,
+                                       @Value("${department.import.max-retries:3}") int maxRetries,
+                                       @Value("${department.import.retry-delay-ms:5000}") long retryDelayMillis,
+                                       @Value("${department.import.max-record-length:1000000}") int maxRecordLength) throws IOException {
+        this.departmentRepository = departmentRepository;
+        this.importJobRepository = importJobRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.importDirectory = Files.createDirectories(Path.of(importDirectory)).toRealPath();
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxRetries = Math.max(0, maxRetries);
+        this.retryDelayMillis = Math.max(0, retryDelayMillis);
+        this.maxRecordLength = Math.max(1, maxRecordLength);
+        this.executor = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "department-import");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Implements the submitImport method from IDepartmentImportService for files on the server.
+     *
+     * @param path The path of the file, relative to the configured import directory.
+     * @param format The file format (CSV or NDJSON), or null to detect it from the file extension.
+     * @return The queued import job.
+     */
+    @Override
+    public DepartmentImportJob submitImport(String path, String format) throws InvalidDepartmentImportException {
+        Path source;
+        try {
+            source = importDirectory.resolve(path).toRealPath();
+        } catch (IOException | RuntimeException e) {
+            throw new InvalidDepartmentImportException("Import File Not Found: " + path);
+        }
+        // Only files inside the import directory may be read
+        if (!source.startsWith(importDirectory) || !Files.isRegularFile(source) || !Files.isReadable(source)) {
+            throw new InvalidDepartmentImportException("Import File Not Found: " + path);
+        }
+        return startJob(source, resolveFormat(format, source.getFileName().toString()), false);
+    }
+
+    /**
+     * Implements the submitImport method from IDepartmentImportService for uploaded files.
+     *
+     * @param file The uploaded file.
+     * @param format The file format (CSV or NDJSON), or null to detect it from the file name.
+     * @return The queued import job.
+     */
+    @Override
+    public DepartmentImportJob submitImport(MultipartFile file, String format) throws InvalidDepartmentImportException {
+        if (file.isEmpty()) {
+            throw new InvalidDepartmentImportException("Please Add A File To Import");
+        }
+        String fileName = file.getOriginalFilename() == null ? "" : file.getOriginalFilename();
+        DepartmentImportJob.Format importFormat = resolveFormat(format, fileName);
+
+        // Store the upload under a generated name so the job can resume from it after a restart
+        Path source = importDirectory.resolve("upload-" + UUID.randomUUID() + "." + importFormat.name().toLowerCase(Locale.ROOT));
+        try {
+            file.transferTo(source);
+            return startJob(source, importFormat, true);
+        } catch (IOException e) {
+            deleteStoredUpload(source);
+            throw new UncheckedIOException("Failed to store uploaded import file", e);
+        } catch (RuntimeException e) {
+            // No job will ever read the stored file, so remove it
+            deleteStoredUpload(source);
+            throw e;
+        }
+    }
+
+    /**
+     * Implements the resumeImport method from IDepartmentImportService.
+     *
+     * @param jobId The ID of the failed import job.
+     * @return The queued import job.
+     */
+    @Override
+    public DepartmentImportJob resumeImport(Long jobId) throws DepartmentImportJobNotFoundException, InvalidDepartmentImportException {
+        DepartmentImportJob job = fetchImportJobById(jobId);
+        if (job.getStatus() != DepartmentImportJob.Status.FAILED) {
+            throw new InvalidDepartmentImportException("Only Failed Import Jobs Can Be Resumed");
+        }
+        if (!Files.isRegularFile(Path.of(job.getSourcePath()))) {
+            throw new InvalidDepartmentImportException("Import File No Longer Available");
+        }
+        // Claim the job atomically, so concurrent resume requests cannot run it twice
+        if (importJobRepository.compareAndSetStatus(jobId, DepartmentImportJob.Status.FAILED, DepartmentImportJob.Status.QUEUED) == 0) {
+            throw new InvalidDepartmentImportException("Only Failed Import Jobs Can Be Resumed");
+        }
+        LOGGER.info("Resuming failed department import job {} at byte {}", jobId, job.getByteOffset());
+        submit(jobId);
+        // Return a freshly loaded copy; the worker loads and updates its own instance
+        return fetchImportJobById(jobId);
+    }
+
+    /**
+     * Implements the fetchImportJobById method from IDepartmentImportService.
+     *
+     * @param jobId The ID of the import job to be retrieved.
+     * @return The import job with the specified ID.
+     */
+    @Override
+    public DepartmentImportJob fetchImportJobById(Long jobId) throws DepartmentImportJobNotFoundException {
+        return importJobRepository.findById(jobId)
+                .orElseThrow(() -> new DepartmentImportJobNotFoundException("Department Import Job Not Found"));
+    }
+
+    /**
+     * Resubmits the jobs that were queued or running when the application last stopped.
+     * They continue from their last committed byte offset.
+     * Requests are accepted before this runs, so jobs already submitted by this process are skipped.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedImports() {
+        List<DepartmentImportJob> jobs = importJobRepository.findByStatusIn(
+                List.of(DepartmentImportJob.Status.QUEUED, DepartmentImportJob.Status.RUNNING));
+        for (DepartmentImportJob job : jobs) {
+            if (submit(job.getJobId())) {
+                LOGGER.info("Resuming department import job {} at byte {}", job.getJobId(), job.getByteOffset());
+            }
+        }
+    }
+
+    /**
+     * Lets running jobs stop at their last checkpoint when the application context shuts down.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        stopping = true;
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    private DepartmentImportJob.Format resolveFormat(String format, String fileName) throws InvalidDepartmentImportException {
+        if (format != null && !format.isBlank()) {
+            try {
+                return DepartmentImportJob.Format.valueOf(format.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidDepartmentImportException("Unknown Import Format: " + format);
+            }
+        }
+        // No explicit format, fall back to the file extension
+        String name = fileName.toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) {
+            return DepartmentImportJob.Format.CSV;
+        }
+        // A .json file is usually a single JSON array or object, not one object per line
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return DepartmentImportJob.Format.NDJSON;
+        }
+        throw new InvalidDepartmentImportException("Please Add Import Format (CSV or NDJSON)");
+    }
+
+    private DepartmentImportJob startJob(Path source, DepartmentImportJob.Format format, boolean uploaded) {
+        long totalBytes;
+        try {
+            totalBytes = Files.size(source);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read import file size", e);
+        }
+        DepartmentImportJob job = importJobRepository.save(DepartmentImportJob.builder()
+                .sourcePath(source.toString())
+                .uploaded(uploaded)
+                .format(format)
+                .status(DepartmentImportJob.Status.QUEUED)
+                .totalBytes(totalBytes)
+                .build());
+        // Only the ID is handed to the worker, which loads its own copy; the returned instance is never shared
+        submit(job.getJobId());
+        return job;
+    }
+
+    /**
+     * Hands a job to the worker threads unless it is already queued or running in this process.
+     *
+     * @return false if the job was already queued or running.
+     */
+    private boolean submit(Long jobId) {
+        if (!activeJobs.add(jobId)) {
+            return false;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    runJob(jobId);
+                } finally {
+                    activeJobs.remove(jobId);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            activeJobs.remove(jobId);
+            throw e;
+        }
+    }
+
+    /**
+     * Runs a job, retrying it from its checkpoint after transient database errors.
+     */
+    private void runJob(Long jobId) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                importFile(jobId);
+                return;
+            } catch (TransientDataAccessException | RecoverableDataAccessException | CannotCreateTransactionException e) {
+                if (stopping || attempt > maxRetries) {
+                    failJob(jobId, e);
+                    return;
+                }
+                LOGGER.warn("Department import job {} hit a transient database error, retry {} of {} from its checkpoint",
+                        jobId, attempt, maxRetries, e);
+                if (!sleep(retryDelayMillis * attempt) || stopping) {
+                    // Shutting down; the job is still RUNNING and resumes on the next startup
+                    return;
+                }
+            } catch (IOException | RuntimeException e) {
+                failJob(jobId, e);
+                return;
+            } catch (Error e) {
+                // Record the failure so the job is not restarted on every startup, then let the Error propagate
+                failJob(jobId, e);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Streams the job's file from its checkpoint and commits the records chunk by chunk.
+     */
+    private void importFile(Long jobId) throws IOException {
+        DepartmentImportJob job = importJobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            LOGGER.warn("Department import job {} no longer exists", jobId);
+            return;
+        }
+        if (job.getStatus() == DepartmentImportJob.Status.COMPLETED || job.getStatus() == DepartmentImportJob.Status.FAILED) {
+            // Submitted from a stale job list after an earlier run of the job already finished
+            LOGGER.info("Department import job {} is already {}", jobId, job.getStatus());
+            return;
+        }
+        long runStartNanos = System.nanoTime();
+        long runStartRows = job.getRowsImported();
+        Path source = Path.of(job.getSourcePath());
+
+        job.setStatus(DepartmentImportJob.Status.RUNNING);
+        job.setErrorMessage(null);
+        job = importJobRepository.save(job);
+
+        long offset = job.getByteOffset();
+        RowParser parser;
+        if (job.getFormat() == DepartmentImportJob.Format.CSV) {
+            // The header is needed to map columns, even when resuming past it
+            try (DepartmentFileLineReader headerReader = new DepartmentFileLineReader(source, 0, maxRecordLength)) {
+                String header = readRecord(headerReader, job.getFormat());
+                parser = header == null ? line -> null : csvParser(header);
+                offset = Math.max(offset, headerReader.position());
+            }
+        } else {
+            parser = line -> objectMapper.readValue(line, Department.class);
+        }
+
+        try (DepartmentFileLineReader reader = new DepartmentFileLineReader(source, offset, maxRecordLength)) {
+            List<Department> chunk = new ArrayList<>(chunkSize);
+            long rejected = 0;
+            String record;
+            while ((record = readRecord(reader, job.getFormat())) != null) {
+                if (stopping) {
+                    LOGGER.info("Stopping department import job {}, it will resume at byte {}", jobId, job.getByteOffset());
+                    return;
+                }
+                if (record.isBlank()) {
+                    continue;
+                }
+                Department department = parseRow(parser, record);
+                if (department == null) {
+                    rejected++;
+                } else {
+                    chunk.add(department);
+                }
+                if (chunk.size() + rejected >= chunkSize) {
+                    job = commitChunk(job, chunk, rejected, reader.position(), runStartNanos, runStartRows);
+                    chunk.clear();
+                    rejected = 0;
+                }
+            }
+            job.setStatus(DepartmentImportJob.Status.COMPLETED);
+            job = commitChunk(job, chunk, rejected, reader.position(), runStartNanos, runStartRows);
+        }
+        LOGGER.info("Department import job {} completed: {} rows imported, {} rejected",
+                jobId, job.getRowsImported(), job.getRowsRejected());
+        deleteUpload(job);
+    }
+
+    /**
+     * Records a failure against the job's last committed checkpoint.
+     * Uploads are kept after transient or connection failures so the job can be resumed, and deleted otherwise.
+     */
+    private void failJob(Long jobId, Throwable e) {
+        LOGGER.error("Department import job {} failed", jobId, e);
+        // Only failures that can go away on their own are worth resuming; anything else would fail again
+        boolean resumable = e instanceof TransientDataAccessException || e instanceof RecoverableDataAccessException
+                || e instanceof CannotCreateTransactionException || e instanceof DataAccessResourceFailureException;
+        try {
+            // Reload the job so none of the uncommitted progress is recorded
+            importJobRepository.findById(jobId).ifPresent(failed -> {
+                failed.setStatus(DepartmentImportJob.Status.FAILED);
+                failed.setErrorMessage(String.valueOf(e.getMessage()));
+                importJobRepository.save(failed);
+                if (!resumable) {
+                    deleteUpload(failed);
+                }
+            });
+        } catch (RuntimeException saveFailure) {
+            // The job stays RUNNING in the database and resumes on the next startup
+            LOGGER.error("Could not record the failure of department import job {}", jobId, saveFailure);
+        }
+    }
+
+    /**
+     * Saves a chunk of departments and advances the job's checkpoint in the same transaction.
+     * If the database refuses the chunk, each row is tried on its own and the refused rows are
+     * counted as rejected, so one bad row cannot fail the job again on every resume.
+     */
+    private DepartmentImportJob commitChunk(DepartmentImportJob job, List<Department> chunk, long rejected,
+                                            long offset, long runStartNanos, long runStartRows) {
+        try {
+            return saveChunk(job, chunk, rejected, offset, runStartNanos, runStartRows);
+        } catch (DataIntegrityViolationException e) {
+            LOGGER.warn("Department import job {} chunk before byte {} was refused, checking its rows one by one: {}",
+                    job.getJobId(), offset, e.getMessage());
+            List<Department> accepted = new ArrayList<>(chunk.size());
+            for (Department department : chunk) {
+                // Fresh copies are probed and saved, since a rolled-back save leaves IDs on the instances it was given
+                if (isStorable(copyOf(department))) {
+                    accepted.add(copyOf(department));
+                } else {
+                    rejected++;
+                }
+            }
+            return saveChunk(job, accepted, rejected, offset, runStartNanos, runStartRows);
+        }
+    }
+
+    private DepartmentImportJob saveChunk(DepartmentImportJob job, List<Department> chunk, long rejected,
+                                          long offset, long runStartNanos, long runStartRows) {
+        // Progress is applied to a copy, so a refused chunk leaves the job's counts untouched
+        DepartmentImportJob progress = job.toBuilder().build();
+        progress.setByteOffset(offset);
+        progress.setRowsImported(job.getRowsImported() + chunk.size());
+        progress.setRowsRejected(job.getRowsRejected() + rejected);
+        double seconds = (System.nanoTime() - runStartNanos) / 1_000_000_000.0;
+        progress.setRowsPerSecond(seconds > 0 ? (progress.getRowsImported() - runStartRows) / seconds : 0);
+        return transactionTemplate.execute(status -> {
+            departmentRepository.saveAll(chunk);
+            // Flush here so a refused row surfaces as a DataIntegrityViolationException from the repository
+            departmentRepository.flush();
+            return importJobRepository.save(progress);
+        });
+    }
+
+    /**
+     * Saves a single department in a transaction that is always rolled back.
+     *
+     * @return false if the database refuses the row.
+     */
+    private boolean isStorable(Department department) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                status.setRollbackOnly();
+                departmentRepository.saveAndFlush(department);
+            });
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            LOGGER.debug("Rejected department import row: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private static Department copyOf(Department department) {
+        return Department.builder()
+                .departmentName(department.getDepartmentName())
+                .departmentAddress(department.getDepartmentAddress())
+                .departmentCode(department.getDepartmentCode())
+                .build();
+    }
+
+    /**
+     * Reads the next record. For CSV, lines are joined while a quoted value is still open,
+     * so a newline inside quotes does not split the record and the checkpoint never lands inside it.
+     *
+     * @return The next record, or null at the end of the file.
+     */
+    private String readRecord(DepartmentFileLineReader reader, DepartmentImportJob.Format format) throws IOException {
+        String line = reader.readLine();
+        if (line == null || format != DepartmentImportJob.Format.CSV || !hasOddQuotes(line)) {
+            return line;
+        }
+        StringBuilder record = new StringBuilder(line);
+        boolean open = true;
+        while (open) {
+            String next = reader.readLine();
+            if (next == null) {
+                // Unterminated quote at the end of the file; the record is rejected when parsed
+                break;
+            }
+            record.append('\n').append(next);
+            if (record.length() > maxRecordLength) {
+                throw new IOException("CSV Record Before Byte " + reader.position() + " Is Longer Than "
+                        + maxRecordLength + " Characters, Check For An Unterminated Quote");
+            }
+            open = hasOddQuotes(next) != open;
+        }
+        return record.toString();
+    }
+
+    /**
+     * An odd number of quote characters leaves a quoted value open; "" escapes count twice and cancel out.
+     */
+    private static boolean hasOddQuotes(CharSequence text) {
+        int quotes = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '"') {
+                quotes++;
+            }
+        }
+        return quotes % 2 == 1;
+    }
+
+    /**
+     * Deletes the job's source file if it is an upload stored by the application.
+     * Files submitted by path belong to the operator and are never deleted.
+     */
+    private void deleteUpload(DepartmentImportJob job) {
+        if (job.isUploaded()) {
+            deleteStoredUpload(Path.of(job.getSourcePath()));
+        }
+    }
+
+    private void deleteStoredUpload(Path source) {
+        try {
+            Files.deleteIfExists(source);
+        } catch (IOException e) {
+            LOGGER.warn("Could not delete stored department import upload {}", source, e);
+        }
+    }
+
+    /**
+     * Waits before a retry.
+     *
+     * @return false if the thread was interrupted while waiting.
+     */
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Parses and validates a single row.
+     *
+     * @return The department, or null if the row is malformed or violates the Department constraints.
+     */
+    private Department parseRow(RowParser parser, String line) {
+        try {
+            Department department = parser.parse(line);
+            if (department == null) {
+                return null;
+            }
+            department.setDepartmentId(null); // IDs are always generated by the database
+            return validator.validate(department).isEmpty() ? department : null;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debug("Rejected department import row: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Builds a parser that maps CSV columns to Department fields by the names in the header row.
+     */
+    private RowParser csvParser(String header) {
+        List<String> columns = splitCsvLine(header);
+        int nameIndex = columnIndex(columns, "departmentName");
+        int addressIndex = columnIndex(columns, "departmentAddress");
+        int codeIndex = columnIndex(columns, "departmentCode");
+        if (nameIndex < 0) {
+            throw new IllegalStateException("CSV Header Has No departmentName Column");
+        }
+        return line -> {
+            if (hasOddQuotes(line)) {
+                throw new IllegalArgumentException("Unterminated Quoted Value");
+            }
+            List<String> values = splitCsvLine(line);
+            return Department.builder()
+                    .departmentName(columnValue(values, nameIndex))
+                    .departmentAddress(columnValue(values, addressIndex))
+                    .departmentCode(columnValue(values, codeIndex))
+                    .build();
+        };
+    }
+
+    private static int columnIndex(List<String> columns, String name) {
+        for (int i = 0; i < columns.size(); i++) {
+            if (columns.get(i).trim().equalsIgnoreCase(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String columnValue(List<String> values, int index) {
+        if (index < 0 || index >= values.size() || values.get(index).isEmpty()) {
+            return null;
+        }
+        return values.get(index);
+    }
+
+    /**
+     * Splits a CSV line into its values, honouring double-quoted values and "" escapes.
+     */
+    private static List<String> splitCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    /**
+     * Turns one line of the import file into a department.
+     */
+    private interface RowParser {
+        Department parse(String line) throws IOException;
+    }
+}
@@ -2,13 +2,21 @@ package com.LearnSpring.OneShot.service;
 
 import com.LearnSpring.OneShot.entity.Department; // Importing the Department entity
 import com.LearnSpring.OneShot.error.DepartmentNotFoundException;
+import com.LearnSpring.OneShot.error.InvalidDepartmentFieldException;
+import com.LearnSpring.OneShot.error.TooManyDepartmentIdsException;
+import com.LearnSpring.OneShot.repository.IDepartmentFieldsRepository;
 import com.LearnSpring.OneShot.repository.IDepartmentRepository; // Importing the Department repository interface
 import org.springframework.beans.factory.annotation.Autowired; // For dependency injection
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service; // Marks this class as a service
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletionException;
 
 /**
  * Implementation of the IDepartmentService interface.
@@ -20,15 +28,26 @@ public class DepartmentServiceImpl implements IDepartmentService {
     // Repository dependency for interacting with the database
     private IDepartmentRepository departmentRepository;
 
+    // Batches concurrent ID lookups into single queries
+    private DepartmentBatchLoader departmentBatchLoader;
+
+    // Most distinct IDs a single multi-get request may ask for
+    private int maxIds;
+
     /**
      * Constructor-based dependency injection of the department repository.
      * This ensures that the service has access to the repository for data access.
      *
      * @param departmentRepository The repository interface for department-related data operations.
+     * @param departmentBatchLoader The loader that batches lookups by department ID.
+     * @param maxIds The most distinct IDs a single multi-get request may ask for.
      */
     @Autowired
-    public DepartmentServiceImpl(IDepartmentRepository departmentRepository) {
+    public DepartmentServiceImpl(IDepartmentRepository departmentRepository, DepartmentBatchLoader departmentBatchLoader,
+                                 @Value("${department.read.max-ids:1000}") int maxIds) {
         this.departmentRepository = departmentRepository;
+        this.departmentBatchLoader = departmentBatchLoader;
+        this.maxIds = maxIds;
     }
 
     /**
@@ -56,23 +75,137 @@ public class DepartmentServiceImpl implements IDepartmentService {
         return departmentRepository.findAll();
     }
 
+    /**
+     * Implements the fetchDepartmentListByIds method from IDepartmentService.
+     * Retrieves all department entities with the given IDs, one IN (...) query per batch of IDs.
+     *
+     * @param ids The IDs of the departments to be retrieved.
+     * @return A list of the department objects that were found.
+     */
+    @Override
+    public List<Department> fetchDepartmentListByIds(List<Long> ids) throws TooManyDepartmentIdsException {
+        List<Department> departments = new ArrayList<>();
+        // Keeps each IN (...) list within the batch loader's size cap
+        for (List<Long> batch : batchIds(ids)) {
+            departments.addAll(departmentRepository.findAllById(batch));
+        }
+        return departments;
+    }
+
+    /**
+     * Removes duplicate IDs, checks the request stays within the configured maximum
+     * and splits the IDs into batches no larger than the batch loader's size cap.
+     *
+     * @param ids The requested IDs.
+     * @return The distinct IDs in batches, in the order they were requested.
+     */
+    private List<List<Long>> batchIds(List<Long> ids) throws TooManyDepartmentIdsException {
+        List<Long> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        if (distinct.size() > maxIds) {
+            throw new TooManyDepartmentIdsException("Please Request At Most " + maxIds + " Department IDs");
+        }
+        int batchSize = departmentBatchLoader.getMaxBatchSize();
+        List<List<Long>> batches = new ArrayList<>();
+        for (int start = 0; start < distinct.size(); start += batchSize) {
+            batches.add(distinct.subList(start, Math.min(start + batchSize, distinct.size())));
+        }
+        return batches;
+    }
+
     /**
      * Implements the findDepartmentById method from IDepartmentService.
-     * Retrieves a department entity by its ID from the repository.
+     * Retrieves a department entity by its ID through the batch loader,
+     * so concurrent lookups share a single query.
      *
      * @param id The ID of the department to be retrieved.
      * @return The department object with the specified ID.
      */
     @Override
     public Department findDepartmentById(Long id) throws DepartmentNotFoundException {
-        // Retrieves the department by ID from the repository
-        Optional<Department> department = departmentRepository.findById(id); // Returns null if not found
+        // Retrieves the department by ID, waiting for the batch it was queued in
+        Optional<Department> department;
+        try {
+            department = departmentBatchLoader.load(id).join();
+        } catch (CompletionException e) {
+            // Rethrow the repository failure rather than the future's wrapper
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
         if(!department.isPresent()){
             throw new DepartmentNotFoundException("Department Not Found");
         }
         return department.get();
     }
 
+    /**
+     * Implements the fetchDepartmentFieldList method from IDepartmentService.
+     * Selects only the requested columns through the repository, one query per batch of IDs.
+     *
+     * @param fields The comma-separated names of the fields to be retrieved.
+     * @param ids The IDs of the departments to be retrieved, or null to retrieve all departments.
+     * @return A list with one map of field name to value per department found.
+     */
+    @Override
+    public List<Map<String, Object>> fetchDepartmentFieldList(String fields, List<Long> ids)
+            throws InvalidDepartmentFieldException, TooManyDepartmentIdsException {
+        List<String> selected = parseFields(fields);
+        if (ids == null) {
+            return departmentRepository.findDepartmentFields(selected, null);
+        }
+        List<Map<String, Object>> departments = new ArrayList<>();
+        // Keeps each IN (...) list within the batch loader's size cap, as fetchDepartmentListByIds does
+        for (List<Long> batch : batchIds(ids)) {
+            departments.addAll(departmentRepository.findDepartmentFields(selected, batch));
+        }
+        return departments;
+    }
+
+    /**
+     * Implements the findDepartmentFieldsById method from IDepartmentService.
+     * Selects only the requested columns of the department through the repository.
+     *
+     * @param id The ID of the department to be retrieved.
+     * @param fields The comma-separated names of the fields to be retrieved.
+     * @return A map of field name to value for the department with the specified ID.
+     */
+    @Override
+    public Map<String, Object> findDepartmentFieldsById(Long id, String fields) throws DepartmentNotFoundException, InvalidDepartmentFieldException {
+        List<Map<String, Object>> department = departmentRepository.findDepartmentFields(parseFields(fields), List.of(id));
+        if (department.isEmpty()) {
+            throw new DepartmentNotFoundException("Department Not Found");
+        }
+        return department.get(0);
+    }
+
+    /**
+     * Splits a comma-separated fieldset into distinct field names and checks each one is selectable.
+     *
+     * @param fields The comma-separated names of the fields, e.g. "departmentId,departmentName".
+     * @return The field names in the order they were requested.
+     */
+    private List<String> parseFields(String fields) throws InvalidDepartmentFieldException {
+        List<String> parsed = new ArrayList<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty() || parsed.contains(name)) {
+                continue;
+            }
+            if (!IDepartmentFieldsRepository.SELECTABLE_FIELDS.contains(name)) {
+                throw new InvalidDepartmentFieldException("Unknown Department Field: " + name);
+            }
+            parsed.add(name);
+        }
+        if (parsed.isEmpty()) {
+            throw new InvalidDepartmentFieldException("Please Add At Least One Department Field");
+        }
+        return parsed;
+    }
+
     /**
      * Implements the deleteDepartmentById method from IDepartmentService.
      * Deletes the department entity with the specified ID from the repository.
@@ -0,0 +1,51 @@
+package com.LearnSpring.OneShot.service;
+
+import com.LearnSpring.OneShot.entity.DepartmentImportJob; // Importing the DepartmentImportJob entity
+import com.LearnSpring.OneShot.error.DepartmentImportJobNotFoundException;
+import com.LearnSpring.OneShot.error.InvalidDepartmentImportException;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Interface for department bulk import operations.
+ * Defines the contract for submitting import jobs and tracking their progress.
+ */
+public interface IDepartmentImportService {
+
+    /**
+     * Method to start importing departments from a file on the server.
+     * The file is imported in the background; the returned job can be polled for progress.
+     *
+     * @param path The path of the file, relative to the configured import directory.
+     * @param format The file format (CSV or NDJSON), or null to detect it from the file extension.
+     * @return The queued import job.
+     */
+    public DepartmentImportJob submitImport(String path, String format) throws InvalidDepartmentImportException;
+
+    /**
+     * Method to start importing departments from an uploaded file.
+     * The upload is stored in the import directory first, so the job can resume after a restart.
+     *
+     * @param file The uploaded file.
+     * @param format The file format (CSV or NDJSON), or null to detect it from the file name.
+     * @return The queued import job.
+     */
+    public DepartmentImportJob submitImport(MultipartFile file, String format) throws InvalidDepartmentImportException;
+
+    /**
+     * Method to resume a failed import job.
+     * The job continues from its last committed byte offset, so rows already imported are not imported again.
+     *
+     * @param jobId The ID of the failed import job.
+     * @return The queued import job.
+     */
+    public DepartmentImportJob resumeImport(Long jobId) throws DepartmentImportJobNotFoundException, InvalidDepartmentImportException;
+
+    /**
+     * Method to find an import job by its ID.
+     * This method retrieves the job with its current progress.
+     *
+     * @param jobId The ID of the import job to be retrieved.
+     * @return The import job with the specified ID.
+     */
+    public DepartmentImportJob fetchImportJobById(Long jobId) throws DepartmentImportJobNotFoundException;
+}
@@ -2,8 +2,11 @@ package com.LearnSpring.OneShot.service;
 
 import com.LearnSpring.OneShot.entity.Department; // Importing the Department entity
 import com.LearnSpring.OneShot.error.DepartmentNotFoundException;
+import com.LearnSpring.OneShot.error.InvalidDepartmentFieldException;
+import com.LearnSpring.OneShot.error.TooManyDepartmentIdsException;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Interface for Department service operations.
@@ -28,6 +31,16 @@ public interface IDepartmentService {
      */
     public List<Department> fetchAllDepartmentList();
 
+    /**
+     * Method to fetch several departments by their IDs.
+     * This method retrieves the departments with the specified IDs in as few queries as possible.
+     * IDs without a matching department are skipped.
+     *
+     * @param ids The IDs of the departments to be retrieved, at most department.read.max-ids distinct ones.
+     * @return A list of the department objects that were found.
+     */
+    public List<Department> fetchDepartmentListByIds(List<Long> ids) throws TooManyDepartmentIdsException;
+
     /**
      * Method to find a department by its ID.
      * This method retrieves a department object with the specified ID.
@@ -37,6 +50,28 @@ public interface IDepartmentService {
      */
     public Department findDepartmentById(Long id) throws DepartmentNotFoundException;
 
+    /**
+     * Method to fetch selected fields of departments.
+     * This method reads only the requested columns from the database.
+     *
+     * @param fields The comma-separated names of the fields to be retrieved.
+     * @param ids The IDs of the departments to be retrieved, at most department.read.max-ids distinct ones,
+     *            or null to retrieve all departments.
+     * @return A list with one map of field name to value per department found.
+     */
+    public List<Map<String, Object>> fetchDepartmentFieldList(String fields, List<Long> ids)
+            throws InvalidDepartmentFieldException, TooManyDepartmentIdsException;
+
+    /**
+     * Method to find selected fields of a department by its ID.
+     * This method reads only the requested columns from the database.
+     *
+     * @param id The ID of the department to be retrieved.
+     * @param fields The comma-separated names of the fields to be retrieved.
+     * @return A map of field name to value for the department with the specified ID.
+     */
+    public Map<String, Object> findDepartmentFieldsById(Long id, String fields) throws DepartmentNotFoundException, InvalidDepartmentFieldException;
+
     /**
      * Method to delete a department by its ID.
      * This method deletes the department with the specified ID.
@@ -2,6 +2,8 @@ package com.LearnSpring.OneShot.controller;
 
 import com.LearnSpring.OneShot.entity.Department;
 import com.LearnSpring.OneShot.error.DepartmentNotFoundException;
+import com.LearnSpring.OneShot.error.InvalidDepartmentFieldException;
+import com.LearnSpring.OneShot.error.TooManyDepartmentIdsException;
 import com.LearnSpring.OneShot.service.IDepartmentService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,6 +16,9 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.util.List;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.http.MediaType.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -108,4 +113,101 @@ class DepartmentControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.departmentName").value(department.getDepartmentName()));
     }
+
+    /**
+     * Tests the fetchDepartmentListByIds method of the DepartmentController.
+     * This method tests the GET request to retrieve several departments by their IDs.
+     */
+    @Test
+    void fetchDepartmentListByIds() throws Exception {
+        // Mock the departmentService's fetchDepartmentListByIds method to return the predefined department instance
+        Mockito.when(departmentService.fetchDepartmentListByIds(List.of(1L, 2L))).thenReturn(List.of(department));
+
+        // Perform GET request to "/departments?ids=1,2" and expect only the found department in the response
+        mockMvc.perform(get("/departments")
+                        .param("ids", "1,2")
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].departmentName").value(department.getDepartmentName()));
+    }
+
+    /**
+     * Tests the findDepartmentFieldsById method of the DepartmentController.
+     * This method tests the GET request to retrieve selected fields of a department by its ID.
+     */
+    @Test
+    void findDepartmentFieldsById() throws Exception {
+        // Mock the departmentService's findDepartmentFieldsById method to return only the department name
+        Mockito.when(departmentService.findDepartmentFieldsById(1L, "departmentName"))
+                .thenReturn(Map.of("departmentName", department.getDepartmentName()));
+
+        // Perform GET request to "/departments/1?fields=departmentName" and expect only the name in the response
+        mockMvc.perform(get("/departments/1")
+                        .param("fields", "departmentName")
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.departmentName").value(department.getDepartmentName()))
+                .andExpect(jsonPath("$.departmentAddress").doesNotExist());
+    }
+
+    /**
+     * Tests the fetchDepartmentFieldList method of the DepartmentController.
+     * This method tests the GET request to retrieve selected fields of departments filtered by ID.
+     */
+    @Test
+    void fetchDepartmentFieldList() throws Exception {
+        // Mock the departmentService's fetchDepartmentFieldList method to return only the department name
+        Mockito.when(departmentService.fetchDepartmentFieldList("departmentName", List.of(1L, 2L)))
+                .thenReturn(List.of(Map.of("departmentName", department.getDepartmentName())));
+
+        // Perform GET request to "/departments?fields=departmentName&ids=1,2" and expect only the name in the response
+        mockMvc.perform(get("/departments")
+                        .param("fields", "departmentName")
+                        .param("ids", "1,2")
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].departmentName").value(department.getDepartmentName()))
+                .andExpect(jsonPath("$[0].departmentAddress").doesNotExist());
+
+        // The list mapping is used instead of the full-entity ids mapping
+        Mockito.verify(departmentService, Mockito.never()).fetchDepartmentListByIds(Mockito.anyList());
+    }
+
+    /**
+     * Tests the error handling of the sparse fieldset endpoints.
+     * This method verifies that an invalid fieldset is answered with 400 Bad Request.
+     */
+    @Test
+    void fetchDepartmentFieldList_whenUnknownField_thenBadRequest() throws Exception {
+        // Mock the departmentService's fetchDepartmentFieldList method to reject the unknown field
+        Mockito.when(departmentService.fetchDepartmentFieldList("salary", null))
+                .thenThrow(new InvalidDepartmentFieldException("Unknown Department Field: salary"));
+
+        // Perform GET request to "/departments?fields=salary" and expect the response status to be 400 Bad Request
+        mockMvc.perform(get("/departments")
+                        .param("fields", "salary")
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Unknown Department Field: salary"));
+    }
+
+    /**
+     * Tests the error handling of the multi-get endpoint.
+     * This method verifies that a request for too many IDs is answered with 400 Bad Request.
+     */
+    @Test
+    void fetchDepartmentListByIds_whenTooManyIds_thenBadRequest() throws Exception {
+        // Mock the departmentService's fetchDepartmentListByIds method to reject the request
+        Mockito.when(departmentService.fetchDepartmentListByIds(Mockito.anyList()))
+                .thenThrow(new TooManyDepartmentIdsException("Please Request At Most 1000 Department IDs"));
+
+        // Perform GET request to "/departments?ids=1,2" and expect the response status to be 400 Bad Request
+        mockMvc.perform(get("/departments")
+                        .param("ids", "1,2")
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Please Request At Most 1000 Department IDs"));
+    }
 }
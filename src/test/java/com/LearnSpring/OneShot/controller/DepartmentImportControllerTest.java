@@ -0,0 +1,135 @@
+package com.LearnSpring.OneShot.controller;
+
+import com.LearnSpring.OneShot.entity.DepartmentImportJob;
+import com.LearnSpring.OneShot.error.DepartmentImportJobNotFoundException;
+import com.LearnSpring.OneShot.error.InvalidDepartmentImportException;
+import com.LearnSpring.OneShot.service.IDepartmentImportService;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Test class for DepartmentImportController.
+ * This class uses Spring Boot's WebMvcTest to test controller methods.
+ */
+@WebMvcTest(DepartmentImportController.class)
+class DepartmentImportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;  // MockMvc instance to perform HTTP requests and assert responses
+
+    @MockBean
+    private IDepartmentImportService departmentImportService;  // Mock the IDepartmentImportService to isolate the controller tests
+
+    /**
+     * Tests the submitImport method of the DepartmentImportController.
+     * This method tests the POST request that starts an import of a file on the server.
+     */
+    @Test
+    void submitImport() throws Exception {
+        // Mock the departmentImportService's submitImport method to return a queued job
+        DepartmentImportJob job = DepartmentImportJob.builder()
+                .jobId(1L)
+                .sourcePath("departments.csv")
+                .format(DepartmentImportJob.Format.CSV)
+                .status(DepartmentImportJob.Status.QUEUED)
+                .build();
+        Mockito.when(departmentImportService.submitImport("departments.csv", null)).thenReturn(job);
+
+        // Perform POST request to "/departments/imports?path=departments.csv" and expect the job ID in the response
+        mockMvc.perform(post("/departments/imports")
+                        .param("path", "departments.csv"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.jobId").value(1))
+                .andExpect(jsonPath("$.status").value("QUEUED"))
+                .andExpect(jsonPath("$.sourcePath").doesNotExist());
+    }
+
+    /**
+     * Tests the fetchImportJobById method of the DepartmentImportController.
+     * This method tests the GET request for a job that does not exist.
+     */
+    @Test
+    void fetchImportJobById_whenMissing_thenNotFound() throws Exception {
+        // Mock the departmentImportService's fetchImportJobById method to throw for an unknown job
+        Mockito.when(departmentImportService.fetchImportJobById(2L))
+                .thenThrow(new DepartmentImportJobNotFoundException("Department Import Job Not Found"));
+
+        // Perform GET request to "/departments/imports/2" and expect the response status to be 404 Not Found
+        mockMvc.perform(get("/departments/imports/2"))
+                .andExpect(status().isNotFound());
+    }
+
+    /**
+     * Tests the uploadImport method of the DepartmentImportController.
+     * This method tests the multipart POST request that starts an import of an uploaded file.
+     */
+    @Test
+    void uploadImport() throws Exception {
+        // Mock the departmentImportService's submitImport method for uploads to return a queued job
+        DepartmentImportJob job = DepartmentImportJob.builder()
+                .jobId(3L)
+                .sourcePath("/var/imports/upload-3.csv")
+                .uploaded(true)
+                .format(DepartmentImportJob.Format.CSV)
+                .status(DepartmentImportJob.Status.QUEUED)
+                .build();
+        Mockito.when(departmentImportService.submitImport(Mockito.any(MultipartFile.class), Mockito.isNull())).thenReturn(job);
+        MockMultipartFile file = new MockMultipartFile("file", "departments.csv", "text/csv",
+                "departmentName\nIT\n".getBytes(StandardCharsets.UTF_8));
+
+        // Perform multipart POST request to "/departments/imports" and expect the job ID, but not the stored file, in the response
+        mockMvc.perform(multipart("/departments/imports").file(file))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.jobId").value(3))
+                .andExpect(jsonPath("$.sourcePath").doesNotExist())
+                .andExpect(jsonPath("$.uploaded").doesNotExist());
+    }
+
+    /**
+     * Tests the submitImport method of the DepartmentImportController with a path outside the import directory.
+     * This method verifies that the rejected path is answered with 400 Bad Request.
+     */
+    @Test
+    void submitImport_whenPathRejected_thenBadRequest() throws Exception {
+        // Mock the departmentImportService's submitImport method to reject the path
+        Mockito.when(departmentImportService.submitImport("../etc/passwd", null))
+                .thenThrow(new InvalidDepartmentImportException("Import File Not Found: ../etc/passwd"));
+
+        // Perform POST request with the rejected path and expect the response status to be 400 Bad Request
+        mockMvc.perform(post("/departments/imports")
+                        .param("path", "../etc/passwd"))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Tests the resumeImport method of the DepartmentImportController.
+     * This method tests the POST request that resumes a failed import job.
+     */
+    @Test
+    void resumeImport() throws Exception {
+        // Mock the departmentImportService's resumeImport method to return the requeued job
+        DepartmentImportJob job = DepartmentImportJob.builder()
+                .jobId(4L)
+                .status(DepartmentImportJob.Status.QUEUED)
+                .byteOffset(1024)
+                .build();
+        Mockito.when(departmentImportService.resumeImport(4L)).thenReturn(job);
+
+        // Perform POST request to "/departments/imports/4/resume" and expect the requeued job in the response
+        mockMvc.perform(post("/departments/imports/4/resume"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("QUEUED"))
+                .andExpect(jsonPath("$.byteOffset").value(1024));
+    }
+}
@@ -7,6 +7,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 
+import java.util.List;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -22,6 +25,8 @@ class IDepartmentRepositoryTest {
     @Autowired
     private TestEntityManager entityManager;  // Inject TestEntityManager to handle database operations in tests
 
+    private Long departmentId;  // Generated ID of the department persisted for the current test
+
     /**
      * Sets up the test environment before each test method.
      * This method creates and persists a Department entity to the database.
@@ -36,7 +41,7 @@ class IDepartmentRepositoryTest {
                 .build();
 
         // Persist the department to the in-memory database
-        entityManager.persist(department);
+        departmentId = entityManager.persist(department).getDepartmentId();
     }
 
     /**
@@ -45,11 +50,58 @@ class IDepartmentRepositoryTest {
      */
     @Test
     public void whenFindById_ThenReturnDepartment(){
-        // Retrieve the department with ID 1 from the repository
-        Department department = departmentRepository.findById(1L).get();
+        // Retrieve the persisted department from the repository; IDs keep growing across tests
+        Department department = departmentRepository.findById(departmentId).get();
 
         // Assert that the retrieved department's name matches the expected value
         assertEquals(department.getDepartmentName(), "KGBE");
     }
 
+    /**
+     * Tests the findDepartmentFields method of the IDepartmentRepository.
+     * This method selects only the requested columns and verifies no other fields are returned.
+     */
+    @Test
+    public void whenFindDepartmentFields_ThenReturnOnlyRequestedFields(){
+        // Select only the department name of every department
+        List<Map<String, Object>> departments = departmentRepository.findDepartmentFields(List.of("departmentName"), null);
+
+        // Assert that the row holds the department name and nothing else
+        assertEquals(1, departments.size());
+        assertEquals(Map.of("departmentName", "KGBE"), departments.get(0));
+    }
+
+    /**
+     * Tests the findDepartmentFields method of the IDepartmentRepository with an ID filter.
+     * This method verifies that only departments with the given IDs are returned.
+     */
+    @Test
+    public void whenFindDepartmentFieldsByIds_ThenReturnOnlyMatchingDepartments(){
+        // Persist a second department that must be filtered out
+        entityManager.persist(Department.builder().departmentName("HR").build());
+
+        // Select the ID and name of the first department only
+        List<Map<String, Object>> departments = departmentRepository.findDepartmentFields(
+                List.of("departmentId", "departmentName"), List.of(departmentId));
+
+        // Assert that only the matching department is returned, with the fields in the requested order
+        assertEquals(1, departments.size());
+        assertEquals(List.of("departmentId", "departmentName"), List.copyOf(departments.get(0).keySet()));
+        assertEquals(departmentId, departments.get(0).get("departmentId"));
+        assertEquals("KGBE", departments.get(0).get("departmentName"));
+    }
+
+    /**
+     * Tests the findDepartmentFields method of the IDepartmentRepository with an empty ID filter.
+     * This method verifies that no departments are returned rather than all of them.
+     */
+    @Test
+    public void whenFindDepartmentFieldsByNoIds_ThenReturnNothing(){
+        // Select with an empty ID list
+        List<Map<String, Object>> departments = departmentRepository.findDepartmentFields(List.of("departmentName"), List.of());
+
+        // Assert that the empty filter matches nothing
+        assertTrue(departments.isEmpty());
+    }
+
 }
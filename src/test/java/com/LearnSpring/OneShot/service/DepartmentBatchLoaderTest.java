@@ -0,0 +1,168 @@
+package com.LearnSpring.OneShot.service;
+
+import com.LearnSpring.OneShot.entity.Department;
+import com.LearnSpring.OneShot.repository.IDepartmentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for DepartmentBatchLoader.
+ * Uses a mocked repository to verify how lookups are grouped into batched queries.
+ */
+class DepartmentBatchLoaderTest {
+
+    private IDepartmentRepository departmentRepository;  // Mocked repository to count the queries
+    private DepartmentBatchLoader loader;  // Loader under test, created per test with its own settings
+
+    private final Department it = Department.builder().departmentId(1L).departmentName("IT").build();
+    private final Department hr = Department.builder().departmentId(2L).departmentName("HR").build();
+
+    @BeforeEach
+    void setUp() {
+        departmentRepository = Mockito.mock(IDepartmentRepository.class);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (loader != null) {
+            loader.shutdown();
+        }
+    }
+
+    /**
+     * Lookups made from several threads within one window are resolved by a single findAllById call.
+     */
+    @Test
+    void whenLoadedConcurrentlyWithinWindow_thenOneQuery() throws Exception {
+        Mockito.when(departmentRepository.findAllById(Mockito.anyIterable())).thenReturn(List.of(it, hr));
+        loader = new DepartmentBatchLoader(departmentRepository, 500, 100, 2);
+
+        // Start all callers at once so they land in the same window
+        ExecutorService callers = Executors.newFixedThreadPool(4);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<CompletableFuture<Optional<Department>>>> calls = new ArrayList<>();
+        for (long id : new long[]{1L, 2L, 1L, 2L}) {
+            calls.add(callers.submit(() -> {
+                start.await();
+                return loader.load(id);
+            }));
+        }
+        start.countDown();
+
+        List<Optional<Department>> results = new ArrayList<>();
+        for (Future<CompletableFuture<Optional<Department>>> call : calls) {
+            results.add(call.get().join());
+        }
+        callers.shutdown();
+
+        assertEquals("IT", results.get(0).get().getDepartmentName());
+        assertEquals("HR", results.get(1).get().getDepartmentName());
+        assertEquals("IT", results.get(2).get().getDepartmentName());
+
+        // Exactly one query was made, for the two distinct IDs
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Iterable<Long>> ids = ArgumentCaptor.forClass(Iterable.class);
+        Mockito.verify(departmentRepository, Mockito.times(1)).findAllById(ids.capture());
+        Set<Long> queried = new HashSet<>();
+        ids.getValue().forEach(queried::add);
+        assertEquals(Set.of(1L, 2L), queried);
+        Mockito.verify(departmentRepository, Mockito.never()).findById(Mockito.anyLong());
+    }
+
+    /**
+     * Reaching the batch size cap dispatches the batch right away instead of waiting for the window.
+     */
+    @Test
+    void whenMaxSizeReached_thenDispatchImmediately() {
+        Mockito.when(departmentRepository.findAllById(Mockito.anyIterable())).thenReturn(List.of(it, hr));
+        loader = new DepartmentBatchLoader(departmentRepository, 60_000, 2, 1);
+
+        CompletableFuture<Optional<Department>> first = loader.load(1L);
+        assertFalse(first.isDone());
+        CompletableFuture<Optional<Department>> second = loader.load(2L);
+
+        // Both lookups are already resolved although the one-minute window has not elapsed
+        assertTrue(first.isDone());
+        assertTrue(second.isDone());
+        Mockito.verify(departmentRepository, Mockito.times(1)).findAllById(Mockito.anyIterable());
+    }
+
+    /**
+     * An ID without a matching department completes with an empty Optional.
+     */
+    @Test
+    void whenIdNotFound_thenEmptyOptional() {
+        Mockito.when(departmentRepository.findAllById(Mockito.anyIterable())).thenReturn(List.of(it));
+        loader = new DepartmentBatchLoader(departmentRepository, 10, 100, 1);
+
+        CompletableFuture<Optional<Department>> found = loader.load(1L);
+        CompletableFuture<Optional<Department>> missing = loader.load(3L);
+
+        assertEquals("IT", found.join().get().getDepartmentName());
+        assertTrue(missing.join().isEmpty());
+    }
+
+    /**
+     * A failing query completes every waiting lookup exceptionally with the repository's exception.
+     */
+    @Test
+    void whenQueryFails_thenEveryCallerSeesException() {
+        IllegalStateException failure = new IllegalStateException("Database unavailable");
+        Mockito.when(departmentRepository.findAllById(Mockito.anyIterable())).thenThrow(failure);
+        loader = new DepartmentBatchLoader(departmentRepository, 10, 100, 1);
+
+        CompletableFuture<Optional<Department>> first = loader.load(1L);
+        CompletableFuture<Optional<Department>> second = loader.load(2L);
+
+        assertSame(failure, assertThrows(CompletionException.class, first::join).getCause());
+        assertSame(failure, assertThrows(CompletionException.class, second::join).getCause());
+    }
+
+    /**
+     * Lookups made after shutdown fall back to findById instead of failing on the stopped timer.
+     */
+    @Test
+    void whenLoadedAfterShutdown_thenFallBackToFindById() throws InterruptedException {
+        Mockito.when(departmentRepository.findById(1L)).thenReturn(Optional.of(it));
+        loader = new DepartmentBatchLoader(departmentRepository, 10, 100, 1);
+        loader.shutdown();
+
+        assertEquals("IT", loader.load(1L).join().get().getDepartmentName());
+        Mockito.verify(departmentRepository, Mockito.never()).findAllById(Mockito.anyIterable());
+    }
+
+    /**
+     * An Error thrown by the query still completes every waiting lookup, so no caller blocks forever.
+     */
+    @Test
+    void whenQueryThrowsError_thenEveryCallerSeesError() {
+        OutOfMemoryError failure = new OutOfMemoryError("Java heap space");
+        Mockito.when(departmentRepository.findAllById(Mockito.anyIterable())).thenThrow(failure);
+        loader = new DepartmentBatchLoader(departmentRepository, 10, 100, 1);
+
+        CompletableFuture<Optional<Department>> first = loader.load(1L);
+        CompletableFuture<Optional<Department>> second = loader.load(2L);
+
+        assertSame(failure, assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS)).getCause());
+        assertSame(failure, assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS)).getCause());
+    }
+}
@@ -0,0 +1,60 @@
+package com.LearnSpring.OneShot.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for DepartmentFileLineReader.
+ * Verifies that byte offsets can be used to resume reading where a previous reader stopped.
+ */
+class DepartmentFileLineReaderTest {
+
+    @TempDir
+    Path tempDir;  // Temporary directory for the import files
+
+    /**
+     * Reads the first line, then resumes from the reported offset with a new reader
+     * and verifies the remaining lines are returned without being repeated.
+     */
+    @Test
+    void whenResumedFromPosition_thenContinueWithNextLine() throws Exception {
+        // Create a file with a byte order mark, a multi-byte character and Windows line endings
+        Path file = tempDir.resolve("departments.csv");
+        Files.write(file, "\uFEFFdepartmentName\r\nR\u00e9seau\r\nIT".getBytes(StandardCharsets.UTF_8));
+
+        long offset;
+        try (DepartmentFileLineReader reader = new DepartmentFileLineReader(file, 0, 1000)) {
+            assertEquals("departmentName", reader.readLine());
+            offset = reader.position();
+        }
+
+        // Resume from the checkpoint and read the rest of the file
+        try (DepartmentFileLineReader reader = new DepartmentFileLineReader(file, offset, 1000)) {
+            assertEquals("R\u00e9seau", reader.readLine());
+            assertEquals("IT", reader.readLine());
+            assertNull(reader.readLine());
+            assertEquals(Files.size(file), reader.position());
+        }
+    }
+
+    /**
+     * A line longer than the cap fails instead of being buffered, even across several buffer reads.
+     */
+    @Test
+    void whenLineLongerThanCap_thenIOException() throws Exception {
+        // A 100KB file without a single newline, larger than the 64KB read buffer
+        Path file = Files.writeString(tempDir.resolve("departments.ndjson"), "x".repeat(100_000));
+
+        try (DepartmentFileLineReader reader = new DepartmentFileLineReader(file, 0, 80_000)) {
+            IOException failure = assertThrows(IOException.class, reader::readLine);
+            assertEquals("Line Starting At Byte 0 Is Longer Than 80000 Bytes", failure.getMessage());
+        }
+    }
+}
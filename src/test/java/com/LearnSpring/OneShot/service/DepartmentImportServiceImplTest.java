@@ -0,0 +1,365 @@
+package com.LearnSpring.OneShot.service;
+
+import com.LearnSpring.OneShot.entity.Department;
+import com.LearnSpring.OneShot.entity.DepartmentImportJob;
+import com.LearnSpring.OneShot.error.InvalidDepartmentImportException;
+import com.LearnSpring.OneShot.repository.IDepartmentImportJobRepository;
+import com.LearnSpring.OneShot.repository.IDepartmentRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for DepartmentImportServiceImpl.
+ * Runs real import jobs against the DataJpaTest in-memory database. The jobs commit from their own
+ * threads, so the test methods run without a surrounding transaction and clean up after themselves.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DepartmentImportServiceImplTest {
+
+    private static final String FIVE_ROWS = "departmentName,departmentCode\n"
+            + "IT,IT-01\nHR,HR-01\nFinance,FIN-01\nOps,OPS-01\nSales,SAL-01\n";
+
+    @Autowired
+    private IDepartmentRepository departmentRepository;  // Real repository for the imported departments
+
+    @Autowired
+    private IDepartmentImportJobRepository importJobRepository;  // Real repository for the job checkpoints
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;  // Used by the service to commit each chunk
+
+    @TempDir
+    Path tempDir;  // Holds the import directory and files outside of it
+
+    private Path importDirectory;
+    private DepartmentImportServiceImpl importService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        importDirectory = Files.createDirectories(tempDir.resolve("imports"));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (importService != null) {
+            importService.shutdown();
+        }
+        departmentRepository.deleteAll();
+        importJobRepository.deleteAll();
+    }
+
+    /**
+     * Imports a CSV file in chunks of two rows and verifies the header mapping, rejected rows,
+     * quoted values spanning lines, the final checkpoint and the reported throughput.
+     */
+    @Test
+    void whenCsvImported_thenRowsMappedByHeaderAndInvalidRowsCounted() throws Exception {
+        Path file = write("departments.csv", "departmentCode,extra,departmentName,departmentAddress\n"
+                + "IT-01,x,IT,\"Hyderabad, India\"\n"
+                + "HR-01,x,,Chennai\n"
+                + "FIN-01,x,Finance,\"Line one\nLine two\"\n"
+                + "OPS-01,x,Ops,Pune\n");
+        importService = newService(departmentRepository, 0);
+
+        DepartmentImportJob job = awaitJob(importService.submitImport("departments.csv", null).getJobId(),
+                DepartmentImportJob.Status.COMPLETED);
+
+        // The row without a name fails @NotBlank and is counted, the others are imported
+        assertEquals(3, job.getRowsImported());
+        assertEquals(1, job.getRowsRejected());
+        assertEquals(Files.size(file), job.getByteOffset());
+        assertTrue(job.getRowsPerSecond() > 0);
+
+        // Columns are mapped by header name, whatever their position
+        Department it = departmentRepository.findByDepartmentName("IT");
+        assertEquals("IT-01", it.getDepartmentCode());
+        assertEquals("Hyderabad, India", it.getDepartmentAddress());
+        assertEquals("Line one\nLine two", departmentRepository.findByDepartmentName("Finance").getDepartmentAddress());
+        assertEquals(3, departmentRepository.count());
+
+        // Files submitted by path belong to the operator and are kept
+        assertTrue(Files.exists(file));
+
+        // Only failed jobs can be resumed
+        assertThrows(InvalidDepartmentImportException.class, () -> importService.resumeImport(job.getJobId()));
+    }
+
+    /**
+     * Imports an NDJSON file and verifies that malformed and invalid lines are rejected
+     * and that IDs in the file are ignored.
+     */
+    @Test
+    void whenNdjsonImported_thenMalformedAndInvalidRowsRejected() throws Exception {
+        write("departments.ndjson", "{\"departmentName\":\"IT\",\"departmentCode\":\"IT-01\"}\n"
+                + "not json\n"
+                + "{\"departmentName\":\"  \"}\n"
+                + "\n"
+                + "{\"departmentId\":99,\"departmentName\":\"HR\"}\n");
+        importService = newService(departmentRepository, 0);
+
+        DepartmentImportJob job = awaitJob(importService.submitImport("departments.ndjson", null).getJobId(),
+                DepartmentImportJob.Status.COMPLETED);
+
+        assertEquals(2, job.getRowsImported());
+        assertEquals(2, job.getRowsRejected());
+        assertEquals("IT-01", departmentRepository.findByDepartmentName("IT").getDepartmentCode());
+        assertNotEquals(99L, departmentRepository.findByDepartmentName("HR").getDepartmentId());
+    }
+
+    /**
+     * Fails the second chunk, then resumes the job and verifies it continues from the checkpoint
+     * of the first chunk without importing those rows twice.
+     */
+    @Test
+    void whenFailedJobResumed_thenContinueFromCheckpointWithoutDuplicates() throws Exception {
+        write("departments.csv", FIVE_ROWS);
+        importService = newService(failingOnSaveAll(2, new DataAccessResourceFailureException("Database unavailable")), 0);
+
+        Long jobId = importService.submitImport("departments.csv", "csv").getJobId();
+        DepartmentImportJob failed = awaitJob(jobId, DepartmentImportJob.Status.FAILED);
+
+        // Only the first chunk was committed, and the checkpoint points just after it
+        assertEquals(2, failed.getRowsImported());
+        assertEquals(("departmentName,departmentCode\nIT,IT-01\nHR,HR-01\n").length(), failed.getByteOffset());
+        assertEquals("Database unavailable", failed.getErrorMessage());
+        assertEquals(2, departmentRepository.count());
+
+        importService.resumeImport(jobId);
+        DepartmentImportJob completed = awaitJob(jobId, DepartmentImportJob.Status.COMPLETED);
+
+        assertEquals(5, completed.getRowsImported());
+        assertNull(completed.getErrorMessage());
+        assertEquals(Set.of("IT", "HR", "Finance", "Ops", "Sales"), departmentNames());
+        assertEquals(5, departmentRepository.count());
+    }
+
+    /**
+     * A row the database refuses is counted as rejected, and the other rows of its chunk are still imported.
+     * Values longer than their column are rejected by validation before reaching the database.
+     */
+    @Test
+    void whenDatabaseRefusesRow_thenOnlyThatRowRejected() throws Exception {
+        write("departments.csv", "departmentName,departmentCode\n"
+                + "IT,IT-01\nBad,BAD-01\nHR," + "X".repeat(256) + "\nOps,OPS-01\nSales,SAL-01\n");
+        importService = newService(refusing("Bad"), 0);
+
+        DepartmentImportJob job = awaitJob(importService.submitImport("departments.csv", null).getJobId(),
+                DepartmentImportJob.Status.COMPLETED);
+
+        assertEquals(3, job.getRowsImported());
+        assertEquals(2, job.getRowsRejected());
+        assertEquals(Set.of("IT", "Ops", "Sales"), departmentNames());
+    }
+
+    /**
+     * A transient database error is retried from the checkpoint without any manual resume.
+     */
+    @Test
+    void whenTransientErrorOccurs_thenRetriedFromCheckpoint() throws Exception {
+        write("departments.csv", FIVE_ROWS);
+        importService = newService(failingOnSaveAll(2, new TransientDataAccessResourceException("Connection reset")), 1);
+
+        DepartmentImportJob job = awaitJob(importService.submitImport("departments.csv", null).getJobId(),
+                DepartmentImportJob.Status.COMPLETED);
+
+        assertEquals(5, job.getRowsImported());
+        assertEquals(5, departmentRepository.count());
+    }
+
+    /**
+     * Resuming interrupted jobs right after a submit, as happens when a request arrives before the
+     * application is ready, does not run the submitted job a second time.
+     */
+    @Test
+    void whenInterruptedImportsResumedAfterSubmit_thenJobRunsOnce() throws Exception {
+        write("departments.csv", FIVE_ROWS);
+        importService = newService(departmentRepository, 0);
+
+        Long jobId = importService.submitImport("departments.csv", null).getJobId();
+        importService.resumeInterruptedImports();
+        awaitJob(jobId, DepartmentImportJob.Status.COMPLETED);
+
+        // Let a duplicate run, if one had been started, finish before counting
+        importService.shutdown();
+        assertEquals(5, importJobRepository.findById(jobId).orElseThrow().getRowsImported());
+        assertEquals(5, departmentRepository.count());
+    }
+
+    /**
+     * Uploaded files are stored in the import directory and deleted once the job completes.
+     */
+    @Test
+    void whenUploadImported_thenStoredFileDeleted() throws Exception {
+        importService = newService(departmentRepository, 0);
+        MockMultipartFile upload = new MockMultipartFile("file", "departments.csv", "text/csv",
+                FIVE_ROWS.getBytes(StandardCharsets.UTF_8));
+
+        DepartmentImportJob job = awaitJob(importService.submitImport(upload, null).getJobId(),
+                DepartmentImportJob.Status.COMPLETED);
+
+        assertTrue(job.isUploaded());
+        assertEquals(5, job.getRowsImported());
+        assertFalse(Files.exists(Path.of(job.getSourcePath())));
+    }
+
+    /**
+     * An upload whose job fails for a reason resuming cannot fix is deleted as well.
+     */
+    @Test
+    void whenUploadHasNoNameColumn_thenJobFailsAndStoredFileDeleted() throws Exception {
+        importService = newService(departmentRepository, 0);
+        MockMultipartFile upload = new MockMultipartFile("file", "departments.csv", "text/csv",
+                "departmentCode\nIT-01\n".getBytes(StandardCharsets.UTF_8));
+
+        DepartmentImportJob job = awaitJob(importService.submitImport(upload, null).getJobId(),
+                DepartmentImportJob.Status.FAILED);
+
+        assertEquals("CSV Header Has No departmentName Column", job.getErrorMessage());
+        assertFalse(Files.exists(Path.of(job.getSourcePath())));
+        assertThrows(InvalidDepartmentImportException.class, () -> importService.resumeImport(job.getJobId()));
+    }
+
+    /**
+     * A file without newlines fails the job with a clear message instead of being read into memory.
+     */
+    @Test
+    void whenLineLongerThanMaxRecordLength_thenJobFails() throws Exception {
+        write("departments.ndjson", "{\"departmentName\":\"IT\"}".repeat(100));
+        importService = newService(departmentRepository, 0);
+
+        DepartmentImportJob job = awaitJob(importService.submitImport("departments.ndjson", null).getJobId(),
+                DepartmentImportJob.Status.FAILED);
+
+        assertEquals("Line Starting At Byte 0 Is Longer Than 1000 Bytes", job.getErrorMessage());
+        assertEquals(0, departmentRepository.count());
+    }
+
+    /**
+     * A .json file is not assumed to hold one object per line; the format must be given explicitly.
+     */
+    @Test
+    void whenJsonExtensionWithoutFormat_thenRejected() throws Exception {
+        write("departments.json", "[{\"departmentName\":\"IT\"}]");
+        importService = newService(departmentRepository, 0);
+
+        assertThrows(InvalidDepartmentImportException.class, () -> importService.submitImport("departments.json", null));
+        assertEquals(0, importJobRepository.count());
+    }
+
+    /**
+     * Paths leading out of the import directory are rejected before any job is created.
+     */
+    @Test
+    void whenPathOutsideImportDirectory_thenRejected() throws Exception {
+        Path outside = Files.writeString(tempDir.resolve("outside.csv"), FIVE_ROWS);
+        importService = newService(departmentRepository, 0);
+
+        assertThrows(InvalidDepartmentImportException.class, () -> importService.submitImport("../outside.csv", null));
+        assertThrows(InvalidDepartmentImportException.class, () -> importService.submitImport(outside.toString(), null));
+        assertThrows(InvalidDepartmentImportException.class, () -> importService.submitImport("missing.csv", null));
+        assertEquals(0, importJobRepository.count());
+    }
+
+    private DepartmentImportServiceImpl newService(IDepartmentRepository repository, int maxRetries) throws IOException {
+        // Chunks of two rows, no retry delay and records of at most 1000 characters keep the jobs small and fast
+        return new DepartmentImportServiceImpl(repository, importJobRepository, transactionManager,
+                Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(),
+                importDirectory.toString(), 2, 1, maxRetries, 0, 1000);
+    }
+
+    /**
+     * Wraps the real repository so that the given saveAll call throws the given exception.
+     */
+    private IDepartmentRepository failingOnSaveAll(int failingCall, RuntimeException failure) {
+        AtomicInteger saves = new AtomicInteger();
+        return Mockito.mock(IDepartmentRepository.class, invocation -> {
+            if (invocation.getMethod().getName().equals("saveAll") && saves.incrementAndGet() == failingCall) {
+                throw failure;
+            }
+            try {
+                return invocation.getMethod().invoke(departmentRepository, invocation.getArguments());
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
+    }
+
+    /**
+     * Wraps the real repository so that any save of a department with the given name is refused,
+     * as a constraint violation in the database would be.
+     */
+    private IDepartmentRepository refusing(String departmentName) {
+        return Mockito.mock(IDepartmentRepository.class, invocation -> {
+            String method = invocation.getMethod().getName();
+            if (method.equals("saveAll") || method.equals("saveAndFlush")) {
+                Object argument = invocation.getArgument(0);
+                Iterable<?> departments = argument instanceof Iterable<?> iterable ? iterable : List.of(argument);
+                for (Object department : departments) {
+                    if (departmentName.equals(((Department) department).getDepartmentName())) {
+                        throw new DataIntegrityViolationException("Department " + departmentName + " refused");
+                    }
+                }
+            }
+            try {
+                return invocation.getMethod().invoke(departmentRepository, invocation.getArguments());
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.writeString(importDirectory.resolve(name), content);
+    }
+
+    private Set<String> departmentNames() {
+        return departmentRepository.findAll().stream().map(Department::getDepartmentName).collect(Collectors.toSet());
+    }
+
+    /**
+     * Polls the job until it completes or fails and checks it ended in the expected state.
+     */
+    private DepartmentImportJob awaitJob(Long jobId, DepartmentImportJob.Status expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (true) {
+            DepartmentImportJob job = importJobRepository.findById(jobId).orElseThrow();
+            boolean finished = job.getStatus() == DepartmentImportJob.Status.COMPLETED
+                    || job.getStatus() == DepartmentImportJob.Status.FAILED;
+            if (finished) {
+                assertEquals(expected, job.getStatus(), "Job ended with: " + job.getErrorMessage());
+                return job;
+            }
+            if (System.currentTimeMillis() > deadline) {
+                fail("Job " + jobId + " is still " + job.getStatus());
+            }
+            Thread.sleep(20);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.LearnSpring.OneShot.service;
 
 import com.LearnSpring.OneShot.entity.Department; // Importing Department entity
+import com.LearnSpring.OneShot.error.InvalidDepartmentFieldException;
+import com.LearnSpring.OneShot.error.TooManyDepartmentIdsException;
 import com.LearnSpring.OneShot.repository.IDepartmentRepository; // Importing Department repository interface
 import org.junit.jupiter.api.BeforeEach; // JUnit for setup methods
 import org.junit.jupiter.api.DisplayName; // Annotation to give meaningful test names
@@ -10,6 +12,9 @@ import org.springframework.beans.factory.annotation.Autowired; // Injecting depe
 import org.springframework.boot.test.context.SpringBootTest; // Annotation to load Spring Boot application context for testing
 import org.springframework.boot.test.mock.mockito.MockBean; // Annotation to mock Spring beans
 
+import java.util.List;
+import java.util.stream.LongStream;
+
 import static org.junit.jupiter.api.Assertions.*; // Importing JUnit assertions
 
 @SpringBootTest // This annotation loads the Spring Boot application context for integration testing
@@ -39,6 +44,9 @@ class IDepartmentServiceTest {
 
         // Arrange: Mocking the repository method to return the created department when a valid name is passed
         Mockito.when(departmentRepository.findByDepartmentNameIgnoreCase("IT")).thenReturn(department);
+
+        // Arrange: Mocking the batched lookup to return the created department for its ID
+        Mockito.when(departmentRepository.findAllById(Mockito.anyCollection())).thenReturn(List.of(department));
     }
 
     /**
@@ -57,4 +65,91 @@ class IDepartmentServiceTest {
         // Assert: Verifying that the department returned has the expected department name
         assertEquals(departmentName, found.getDepartmentName());
     }
+
+    /**
+     * This test method verifies that the departmentService resolves a department by its ID
+     * through the batched findAllById query instead of a single findById call.
+     */
+    @Test
+    @DisplayName("Get Department Based On Valid Department Id")
+    public void whenValidDepartmentId_thenDepartmentShouldFoundInBatch() throws Exception {
+        // Act: Calling the service method to fetch the department by ID
+        Department found = departmentService.findDepartmentById(1L);
+
+        // Assert: Verifying that the department was found and no single-row lookup was made
+        assertEquals("IT", found.getDepartmentName());
+        Mockito.verify(departmentRepository, Mockito.never()).findById(1L);
+    }
+
+    /**
+     * This test method verifies that an unknown field name is rejected before any query is made.
+     */
+    @Test
+    @DisplayName("Reject Unknown Department Field")
+    public void whenUnknownField_thenInvalidDepartmentFieldException() {
+        assertThrows(InvalidDepartmentFieldException.class,
+                () -> departmentService.fetchDepartmentFieldList("departmentName,salary", null));
+        Mockito.verify(departmentRepository, Mockito.never()).findDepartmentFields(Mockito.anyList(), Mockito.any());
+    }
+
+    /**
+     * This test method verifies that a fieldset without any field names is rejected.
+     */
+    @Test
+    @DisplayName("Reject Empty Department Fieldset")
+    public void whenEmptyFields_thenInvalidDepartmentFieldException() {
+        assertThrows(InvalidDepartmentFieldException.class,
+                () -> departmentService.findDepartmentFieldsById(1L, " , "));
+        Mockito.verify(departmentRepository, Mockito.never()).findDepartmentFields(Mockito.anyList(), Mockito.any());
+    }
+
+    /**
+     * This test method verifies that a large multi-get is split into queries of at most
+     * department.batch.max-size IDs and that duplicate IDs are queried once.
+     */
+    @Test
+    @DisplayName("Split Department Multi-Get Into Batches")
+    public void whenManyIds_thenQueriedInBatches() throws Exception {
+        // Arrange: 250 distinct IDs, each requested twice
+        List<Long> ids = LongStream.rangeClosed(1, 500).map(id -> (id + 1) / 2).boxed().toList();
+
+        // Act: Fetching the departments with the default batch size of 100
+        departmentService.fetchDepartmentListByIds(ids);
+
+        // Assert: Three queries were made, for 100, 100 and 50 IDs
+        Mockito.verify(departmentRepository, Mockito.times(2)).findAllById(Mockito.argThat(batch -> ((List<?>) batch).size() == 100));
+        Mockito.verify(departmentRepository, Mockito.times(1)).findAllById(Mockito.argThat(batch -> ((List<?>) batch).size() == 50));
+    }
+
+    /**
+     * This test method verifies that a multi-get above department.read.max-ids is rejected before any query is made.
+     */
+    @Test
+    @DisplayName("Reject Too Many Department Ids")
+    public void whenTooManyIds_thenTooManyDepartmentIdsException() {
+        List<Long> ids = LongStream.rangeClosed(1, 1001).boxed().toList();
+
+        assertThrows(TooManyDepartmentIdsException.class, () -> departmentService.fetchDepartmentListByIds(ids));
+        Mockito.verify(departmentRepository, Mockito.never()).findAllById(Mockito.anyIterable());
+    }
+
+    /**
+     * This test method verifies that a sparse fieldset above department.read.max-ids is rejected
+     * and that a smaller one is split into queries of at most department.batch.max-size IDs.
+     */
+    @Test
+    @DisplayName("Bound And Batch Department Fieldset Ids")
+    public void whenFieldsetForManyIds_thenBoundedAndQueriedInBatches() throws Exception {
+        // Assert: More than 1000 IDs are rejected before any query is made
+        assertThrows(TooManyDepartmentIdsException.class, () -> departmentService.fetchDepartmentFieldList("departmentName",
+                LongStream.rangeClosed(1, 1001).boxed().toList()));
+        Mockito.verify(departmentRepository, Mockito.never()).findDepartmentFields(Mockito.anyList(), Mockito.any());
+
+        // Act: Fetching one field of 150 departments with the default batch size of 100
+        departmentService.fetchDepartmentFieldList("departmentName", LongStream.rangeClosed(1, 150).boxed().toList());
+
+        // Assert: Two queries were made, for 100 and 50 IDs
+        Mockito.verify(departmentRepository).findDepartmentFields(Mockito.eq(List.of("departmentName")), Mockito.argThat(batch -> batch.size() == 100));
+        Mockito.verify(departmentRepository).findDepartmentFields(Mockito.eq(List.of("departmentName")), Mockito.argThat(batch -> batch.size() == 50));
+    }
 }